@@ -0,0 +1,147 @@
+package com.example.demo;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.api.dto.MemberResponse;
+import com.example.demo.member.domain.Member;
+import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.repository.PaymentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET 경로 비교: 엔티티 로딩 후 DTO 매핑 vs 생성자 표현식 프로젝션.
+ * 캐시 효과를 빼기 위해 2차 캐시는 끄고 리포지토리를 직접 호출한다.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=ReadPathBenchmark} (할당량은 -prof gc 결과의 gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    static final int ROWS = 1_000;
+
+    ConfigurableApplicationContext ctx;
+    TransactionTemplate readTx;
+    MemberRepository memberRepository;
+    OrderRepository orderRepository;
+    PaymentRepository paymentRepository;
+
+    long[] memberIds = new long[ROWS];
+    long[] orderIds = new long[ROWS];
+    long[] paymentIds = new long[ROWS];
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void start() {
+        ctx = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:readbench",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "logging.level.root=warn")
+                .run();
+        memberRepository = ctx.getBean(MemberRepository.class);
+        orderRepository = ctx.getBean(OrderRepository.class);
+        paymentRepository = ctx.getBean(PaymentRepository.class);
+        PlatformTransactionManager txManager = ctx.getBean(PlatformTransactionManager.class);
+
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            for (int i = 0; i < ROWS; i++) {
+                Member m = memberRepository.save(Member.create("bench" + i, "bench" + i + "@test.com"));
+                Order o = orderRepository.save(Order.create(m, Money.of(1000 + i), LocalDateTime.now()));
+                Payment p = paymentRepository.save(Payment.request(o, Money.of(1000 + i), PaymentMethod.CARD));
+                memberIds[i] = m.getMemberId();
+                orderIds[i] = o.getOrderId();
+                paymentIds[i] = p.getPaymentId();
+            }
+        });
+
+        readTx = new TransactionTemplate(txManager);
+        readTx.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        ctx.close();
+    }
+
+    int next() {
+        cursor = (cursor + 1) % ROWS;
+        return cursor;
+    }
+
+    // ---------- 엔티티 로딩 + 매핑 (기존 getDto) ----------
+
+    @Benchmark
+    public MemberResponse memberEntity() {
+        long id = memberIds[next()];
+        return readTx.execute(s -> {
+            Member m = memberRepository.findById(id).orElseThrow();
+            return new MemberResponse(m.getMemberId(), m.getName(), m.getEmail());
+        });
+    }
+
+    @Benchmark
+    public OrderResponse orderEntity() {
+        long id = orderIds[next()];
+        return readTx.execute(s -> {
+            Order o = orderRepository.findById(id).orElseThrow();
+            return new OrderResponse(o.getOrderId(), o.getMember().getMemberId(), o.getStatus().name(),
+                    o.getOrderDate().toString(), o.getTotalAmount());
+        });
+    }
+
+    @Benchmark
+    public PaymentResponse paymentEntity() {
+        long id = paymentIds[next()];
+        return readTx.execute(s -> {
+            Payment p = paymentRepository.findById(id).orElseThrow();
+            return new PaymentResponse(p.getPaymentId(), p.getOrder().getOrderId(), p.getStatus().name(),
+                    p.getMethod().name(), p.getAmount(),
+                    p.getApprovedAt() == null ? null : p.getApprovedAt().toString());
+        });
+    }
+
+    // ---------- 프로젝션 ----------
+
+    @Benchmark
+    public MemberResponse memberProjection() {
+        long id = memberIds[next()];
+        return readTx.execute(s -> memberRepository.findResponseById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public OrderResponse orderProjection() {
+        long id = orderIds[next()];
+        return readTx.execute(s -> orderRepository.findResponseById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public PaymentResponse paymentProjection() {
+        long id = paymentIds[next()];
+        return readTx.execute(s -> paymentRepository.findResponseById(id).orElseThrow());
+    }
+}
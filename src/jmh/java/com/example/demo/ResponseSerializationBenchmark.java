@@ -0,0 +1,72 @@
+package com.example.demo;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.api.dto.MemberResponse;
+import com.example.demo.order.api.dto.OrderPageResponse;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 의 Jackson 직렬화 비용. MVC 와 같은 기본 설정의 ObjectMapper 를 쓴다.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=ResponseSerializationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    ObjectWriter writer;
+    MemberResponse member;
+    OrderResponse order;
+    PaymentResponse payment;
+    OrderPageResponse page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper om = Jackson2ObjectMapperBuilder.json().build();
+        writer = om.writer();
+        String now = LocalDateTime.now().toString();
+        member = new MemberResponse(1234567890123L, "홍길동", "hong@test.com");
+        order = new OrderResponse(1234567890124L, 1234567890123L, "CREATED", now, Money.valueOf("12345.67"));
+        payment = new PaymentResponse(1234567890125L, 1234567890124L, "APPROVED", "CARD", Money.valueOf("12345.67"), now);
+        List<OrderResponse> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) items.add(order);
+        page = new OrderPageResponse(items, "MjAyNi0xMC0xOFQwMDowMHwxMjM0NTY3ODkwMTI0");
+    }
+
+    @Benchmark
+    public byte[] member() throws Exception {
+        return writer.writeValueAsBytes(member);
+    }
+
+    @Benchmark
+    public byte[] order() throws Exception {
+        return writer.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] payment() throws Exception {
+        return writer.writeValueAsBytes(payment);
+    }
+
+    /** 회원 주문 이력 한 페이지 (기본 size=20) */
+    @Benchmark
+    public byte[] orderPage() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+}
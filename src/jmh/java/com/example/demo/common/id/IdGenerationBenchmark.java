@@ -0,0 +1,133 @@
+package com.example.demo.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 발급 전략별 비용 비교.
+ * <ul>
+ *     <li>IDENTITY: insert 마다 즉시 실행 + generated key 조회 (배치 불가)</li>
+ *     <li>pooled 시퀀스: 50개마다 시퀀스 1회 조회, insert 는 50개씩 배치</li>
+ *     <li>Snowflake: DB 조회 없음, insert 는 50개씩 배치</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=IdGenerationBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdGenerationBenchmark {
+
+    static final int BATCH = 50;
+
+    @State(Scope.Benchmark)
+    public static class Generator {
+        final SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(1);
+    }
+
+    @State(Scope.Thread)
+    public static class Db {
+        Connection conn;
+        PreparedStatement identityInsert;
+        PreparedStatement sequenceNext;
+        PreparedStatement sequenceInsert;
+        PreparedStatement snowflakeInsert;
+        final SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(2);
+        long hi;
+        int lo = BATCH;
+        int pending;
+
+        @Setup(Level.Iteration)
+        public void open() throws SQLException {
+            conn = DriverManager.getConnection("jdbc:h2:mem:idbench-" + Thread.currentThread().threadId(), "sa", "");
+            try (Statement st = conn.createStatement()) {
+                st.execute("drop all objects");
+                st.execute("create table t_identity (id bigint generated by default as identity primary key, v int)");
+                st.execute("create table t_sequence (id bigint primary key, v int)");
+                st.execute("create table t_snowflake (id bigint primary key, v int)");
+                st.execute("create sequence t_seq start with 1 increment by " + BATCH);
+            }
+            identityInsert = conn.prepareStatement("insert into t_identity (v) values (?)", Statement.RETURN_GENERATED_KEYS);
+            sequenceNext = conn.prepareStatement("select next value for t_seq");
+            sequenceInsert = conn.prepareStatement("insert into t_sequence (id, v) values (?, ?)");
+            snowflakeInsert = conn.prepareStatement("insert into t_snowflake (id, v) values (?, ?)");
+            lo = BATCH;
+            pending = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws SQLException {
+            conn.close();
+        }
+
+        long nextPooled() throws SQLException {
+            if (lo == BATCH) {
+                try (ResultSet rs = sequenceNext.executeQuery()) {
+                    rs.next();
+                    hi = rs.getLong(1);
+                }
+                lo = 0;
+            }
+            return hi + lo++;
+        }
+
+        void addToBatch(PreparedStatement ps, long id) throws SQLException {
+            ps.setLong(1, id);
+            ps.setInt(2, 1);
+            ps.addBatch();
+            if (++pending == BATCH) {
+                ps.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+
+    @Benchmark
+    public long snowflakeOnly(Generator g) {
+        return g.snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long snowflakeOnlyContended(Generator g) {
+        return g.snowflake.nextId();
+    }
+
+    @Benchmark
+    public long identityInsert(Db db) throws SQLException {
+        db.identityInsert.setInt(1, 1);
+        db.identityInsert.executeUpdate();
+        try (ResultSet keys = db.identityInsert.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long pooledSequenceInsert(Db db) throws SQLException {
+        long id = db.nextPooled();
+        db.addToBatch(db.sequenceInsert, id);
+        return id;
+    }
+
+    @Benchmark
+    public long snowflakeInsert(Db db) throws SQLException {
+        long id = db.snowflake.nextId();
+        db.addToBatch(db.snowflakeInsert, id);
+        return id;
+    }
+}
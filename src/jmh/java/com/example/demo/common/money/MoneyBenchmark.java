@@ -0,0 +1,97 @@
+package com.example.demo.common.money;
+
+import com.example.demo.order.api.dto.OrderCreateRequest;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 금액 처리 비용: 이전 double/BigDecimal 경로 vs Money.
+ * <ul>
+ *     <li>legacy: JSON double → BigDecimal.valueOf().setScale(2) → compareTo → doubleValue() → JSON</li>
+ *     <li>money: JSON 텍스트 → long → equals → JSON 텍스트</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=MoneyBenchmark} (요청당 할당량은 gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    /** 변경 전 요청/응답 DTO 모양 */
+    public static class LegacyCreateRequest {
+        public Long memberId;
+        public double amount;
+    }
+
+    public record LegacyResponse(Long orderId, Long memberId, String status, String orderDate, double amount) {
+    }
+
+    static final String ORDER_DATE = "2026-10-18T12:00:00.123456";
+
+    byte[] requestJson = "{\"memberId\": 1234567890123, \"amount\": 12345.67}".getBytes(StandardCharsets.UTF_8);
+    double legacyAmount = 12_345.67;
+    BigDecimal legacyOrderTotal = new BigDecimal("12345.67");
+    Money orderTotal = Money.valueOf("12345.67");
+
+    ObjectReader legacyReader;
+    ObjectReader moneyReader;
+    ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper om = Jackson2ObjectMapperBuilder.json().build();
+        legacyReader = om.readerFor(LegacyCreateRequest.class);
+        moneyReader = om.readerFor(OrderCreateRequest.class);
+        writer = om.writer();
+    }
+
+    // ---------- 변환만 ----------
+
+    @Benchmark
+    public double legacyConversion() {
+        BigDecimal amount = BigDecimal.valueOf(legacyAmount).setScale(2);
+        if (amount.setScale(2).compareTo(legacyOrderTotal) != 0) throw new IllegalStateException();
+        return amount.doubleValue();
+    }
+
+    @Benchmark
+    public long moneyParse() {
+        Money amount = Money.valueOf("12345.67");
+        if (!amount.equals(orderTotal)) throw new IllegalStateException();
+        return amount.minor();
+    }
+
+    // ---------- 요청 본문 → 도메인 금액 → 응답 본문 ----------
+
+    @Benchmark
+    public byte[] legacyRequestCycle() throws Exception {
+        LegacyCreateRequest req = legacyReader.readValue(requestJson);
+        BigDecimal amount = BigDecimal.valueOf(req.amount).setScale(2);           // Order.create
+        if (amount.setScale(2).compareTo(legacyOrderTotal) != 0) throw new IllegalStateException(); // Payment.request
+        return writer.writeValueAsBytes(
+                new LegacyResponse(1L, req.memberId, "CREATED", ORDER_DATE, amount.doubleValue()));
+    }
+
+    @Benchmark
+    public byte[] moneyRequestCycle() throws Exception {
+        OrderCreateRequest req = moneyReader.readValue(requestJson);
+        Money amount = req.getAmount();
+        if (amount.isNegative() || !amount.equals(orderTotal)) throw new IllegalStateException();
+        return writer.writeValueAsBytes(
+                new OrderResponse(1L, req.getMemberId(), "CREATED", ORDER_DATE, amount));
+    }
+}
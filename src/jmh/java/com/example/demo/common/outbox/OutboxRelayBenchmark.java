@@ -0,0 +1,89 @@
+package com.example.demo.common.outbox;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.common.money.Money;
+import com.example.demo.order.domain.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 릴레이 처리량 (events/s): 매 호출마다 EVENTS 건을 쌓아 두고 drain() 으로 모두 전달한다.
+ * 배치가 클수록 조회/상태 UPDATE 왕복이 줄지만, 실패 시 다시 보내는 범위와 트랜잭션 길이가 커진다.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=OutboxRelayBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OutboxRelayBenchmark {
+
+    static final int EVENTS = 5_000;
+
+    @Param({"10", "100", "500"})
+    int batchSize;
+
+    ConfigurableApplicationContext ctx;
+    TransactionTemplate tx;
+    OutboxWriter outboxWriter;
+    OutboxRelay outboxRelay;
+    final LongAdder delivered = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void start() {
+        ctx = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:outboxbench",
+                        "spring.jpa.show-sql=false",
+                        "app.outbox.relay.enabled=false", // 폴링 대신 drain() 을 직접 측정
+                        "app.outbox.batch-size=" + batchSize,
+                        "logging.level.root=warn")
+                // 구독자 비용은 빼고 릴레이 자체(조회 + 상태 기록)만 본다
+                .initializers(c -> c.getBeanFactory().registerSingleton("countingSubscriber",
+                        (OutboxSubscriber) m -> delivered.increment()))
+                .run();
+        tx = new TransactionTemplate(ctx.getBean(PlatformTransactionManager.class));
+        outboxWriter = ctx.getBean(OutboxWriter.class);
+        outboxRelay = ctx.getBean(OutboxRelay.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        ctx.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderCreatedEvent> events = new ArrayList<>(EVENTS);
+        for (long i = 0; i < EVENTS; i++) events.add(new OrderCreatedEvent(i, i % 100, Money.of(1000), now));
+        tx.executeWithoutResult(s -> outboxWriter.appendAll(events));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int drain() {
+        int published = outboxRelay.drain();
+        if (published != EVENTS) throw new IllegalStateException("drained " + published + " of " + EVENTS);
+        return published;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.common.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 제한 비용 (64 스레드 경합).
+ * <ul>
+ *     <li>spreadMembers: 여러 회원에 고르게, 한도가 커서 항상 통과 → 평소 경로의 순수 오버헤드</li>
+ *     <li>hotMember: 한 회원에 몰림 → 같은 AtomicLong 에 CAS 경합</li>
+ *     <li>hotMemberRejected: 한도를 다 쓴 회원 → 거절 경로 (예외 생성 포함, 스택 트레이스 없음)</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=MemberRateLimiterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(64)
+public class MemberRateLimiterBenchmark {
+
+    static final int MEMBERS = 10_000;
+
+    final MemberRateLimiter open = new MemberRateLimiter(true, 100_000, Duration.ofMinutes(10), MemberRateLimiter.monotonicClock())
+            .limit(RateLimitScope.ORDER_CREATE, 1e9, 1_000_000);
+    final MemberRateLimiter exhausted = new MemberRateLimiter(true, 100_000, Duration.ofMinutes(10), MemberRateLimiter.monotonicClock())
+            .limit(RateLimitScope.ORDER_CREATE, 0.001, 1);
+
+    @Benchmark
+    public void spreadMembers() {
+        open.acquire(RateLimitScope.ORDER_CREATE, (long) ThreadLocalRandom.current().nextInt(MEMBERS));
+    }
+
+    @Benchmark
+    public void hotMember() {
+        open.acquire(RateLimitScope.ORDER_CREATE, 1L);
+    }
+
+    @Benchmark
+    public Object hotMemberRejected() {
+        try {
+            exhausted.acquire(RateLimitScope.ORDER_CREATE, 1L);
+            return null;
+        } catch (RateLimitExceededException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.order.service;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.domain.Member;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성/매핑 경로 (DB 없음).
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=OrderMappingBenchmark} (할당량은 gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMappingBenchmark {
+
+    // 요청 DTO 에서 이미 Money 로 읽혀 온다 (변환 비용은 MoneyBenchmark)
+    Money requestAmount = Money.valueOf("12345.67");
+    Member member = Member.create("bench", "bench@test.com");
+    LocalDateTime now = LocalDateTime.now();
+    Order order = Order.create(member, requestAmount, now);
+
+    /** OrderService.create 의 도메인 부분: 금액 검증 → 빌더 */
+    @Benchmark
+    public Order create() {
+        return Order.create(member, requestAmount, now);
+    }
+
+    /** create/createAll 응답 매핑 */
+    @Benchmark
+    public OrderResponse toRes() {
+        return OrderService.toRes(order);
+    }
+
+    /** getDto 프로젝션의 생성자 표현식 매핑 */
+    @Benchmark
+    public OrderResponse projection() {
+        return new OrderResponse(1L, 2L, OrderStatus.CREATED, now, order.getTotalAmount());
+    }
+}
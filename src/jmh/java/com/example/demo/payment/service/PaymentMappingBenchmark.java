@@ -0,0 +1,65 @@
+package com.example.demo.payment.service;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.domain.Member;
+import com.example.demo.order.domain.Order;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.domain.PaymentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청/승인/매핑 경로 (DB 없음).
+ * approve 는 상태를 바꾸므로 request+approve 로 재고, request 와의 차이를 승인 비용으로 본다.
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=PaymentMappingBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentMappingBenchmark {
+
+    Money requestAmount = Money.valueOf("12345.67");
+    LocalDateTime now = LocalDateTime.now();
+    Order order = Order.create(Member.create("bench", "bench@test.com"), requestAmount, now);
+    Payment approved = approvedPayment();
+
+    private Payment approvedPayment() {
+        Payment p = Payment.request(order, requestAmount, PaymentMethod.CARD);
+        p.approve(now);
+        return p;
+    }
+
+    /** PaymentService.request 의 도메인 부분: 주문 금액 비교 + 빌더 */
+    @Benchmark
+    public Payment request() {
+        return Payment.request(order, requestAmount, PaymentMethod.CARD);
+    }
+
+    @Benchmark
+    public Payment requestAndApprove() {
+        Payment p = Payment.request(order, requestAmount, PaymentMethod.CARD);
+        p.approve(now);
+        return p;
+    }
+
+    /** request/approve 응답 매핑 (approvedAt 문자열 변환 포함) */
+    @Benchmark
+    public PaymentResponse toRes() {
+        return PaymentService.toRes(approved);
+    }
+
+    /** getDto 프로젝션의 생성자 표현식 매핑 */
+    @Benchmark
+    public PaymentResponse projection() {
+        return new PaymentResponse(1L, 2L, PaymentStatus.APPROVED, PaymentMethod.CARD, approved.getAmount(), now);
+    }
+}
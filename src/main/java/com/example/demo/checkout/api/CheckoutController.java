@@ -0,0 +1,40 @@
+package com.example.demo.checkout.api;
+
+import com.example.demo.checkout.api.dto.CheckoutRequest;
+import com.example.demo.checkout.api.dto.CheckoutResponse;
+import com.example.demo.checkout.service.CheckoutService;
+import com.example.demo.common.idempotency.IdempotencyStore;
+import com.example.demo.common.ratelimit.MemberRateLimiter;
+import com.example.demo.common.ratelimit.RateLimitScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/checkout")
+@RequiredArgsConstructor
+public class CheckoutController {
+    private final CheckoutService checkoutService;
+    private final IdempotencyStore idempotencyStore;
+    private final MemberRateLimiter rateLimiter;
+
+    // 주문 + 결제 요청 + (approve=true 면) 승인을 한 번의 요청/트랜잭션으로
+    @PostMapping
+    public ResponseEntity<CheckoutResponse> checkout(@RequestBody CheckoutRequest req,
+                                                     @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String key) {
+        if (key == null) return ResponseEntity.ok(limitedCheckout(req));
+
+        String fingerprint = req.getMemberId() + "|" + req.getAmount() + "|" + req.getMethod() + "|" + req.isApprove();
+        IdempotencyStore.Outcome<CheckoutResponse> outcome =
+                idempotencyStore.execute("checkout", key, fingerprint, () -> limitedCheckout(req));
+        return ResponseEntity.ok()
+                .header(IdempotencyStore.IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                .body(outcome.response());
+    }
+
+    // 주문과 결제 요청을 만들므로 두 버킷에서 하나씩 쓴다 (둘 다 되거나 둘 다 안 쓴다, 재생이면 호출되지 않는다)
+    private CheckoutResponse limitedCheckout(CheckoutRequest req) {
+        rateLimiter.acquireAll(req.getMemberId(), RateLimitScope.ORDER_CREATE, RateLimitScope.PAYMENT_REQUEST);
+        return checkoutService.checkout(req);
+    }
+}
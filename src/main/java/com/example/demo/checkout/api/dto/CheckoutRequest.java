@@ -0,0 +1,17 @@
+package com.example.demo.checkout.api.dto;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.payment.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutRequest {
+    private Long memberId;
+    private Money amount;
+    private PaymentMethod method;
+    private boolean approve; // true 면 결제 승인까지
+}
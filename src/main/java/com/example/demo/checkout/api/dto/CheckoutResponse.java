@@ -0,0 +1,13 @@
+package com.example.demo.checkout.api.dto;
+
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CheckoutResponse {
+    private OrderResponse order;
+    private PaymentResponse payment;
+}
@@ -0,0 +1,71 @@
+package com.example.demo.checkout.service;
+
+import com.example.demo.checkout.api.dto.CheckoutRequest;
+import com.example.demo.checkout.api.dto.CheckoutResponse;
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxWriter;
+import com.example.demo.member.domain.Member;
+import com.example.demo.member.service.MemberService;
+import com.example.demo.member.service.MemberStatsService;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderCreatedEvent;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.service.OrderService;
+import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentApprovedEvent;
+import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.payment.service.PaymentService;
+import com.example.demo.report.service.RevenueService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 → 결제 요청 → (선택) 승인을 한 트랜잭션에서 처리한다.
+ * 방금 만든 엔티티를 그대로 이어서 쓰므로 다시 읽지 않고, insert 는 커밋 시 한 번에 나간다.
+ * Hibernate 는 save(persist) 시점의 상태로 insert 를 잡으므로, 승인까지 마친 뒤에 save 해야
+ * 주문/결제가 최종 상태(PAID / APPROVED, version 0)로 insert 되고 뒤따르는 UPDATE 가 없다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
+public class CheckoutService {
+
+    private final MemberService memberService;
+    private final MemberStatsService memberStatsService;
+    private final RevenueService revenueService;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final OutboxWriter outboxWriter;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    @Transactional
+    public CheckoutResponse checkout(CheckoutRequest req) {
+        if (req.getMemberId() == null) throw new IllegalArgumentException("memberId required");
+        if (req.getMethod() == null) throw new IllegalArgumentException("method required");
+
+        // 존재 확인은 캐시된 회원 DTO로, 연관관계는 프록시로 (OrderService.create 와 같음)
+        memberService.getDto(req.getMemberId());
+        Member member = memberService.getReference(req.getMemberId());
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Money amount = req.getAmount();
+        Order order = Order.create(member, amount, now);
+        Payment payment = Payment.request(order, amount, req.getMethod());
+        if (req.isApprove()) payment.approve(now); // save 전에 → 최종 상태로 insert
+        orderRepository.save(order);
+        paymentRepository.save(payment);
+        // 주문 1건 + (승인 시) 결제 1건을 한 번의 UPDATE 로
+        memberStatsService.add(req.getMemberId(), 1, req.isApprove() ? 1 : 0, req.isApprove() ? amount : Money.ZERO);
+        if (req.isApprove()) revenueService.addApproved(now, req.getMethod(), amount);
+        outboxWriter.append(OrderCreatedEvent.of(order, req.getMemberId()));
+        if (req.isApprove()) outboxWriter.append(PaymentApprovedEvent.of(payment));
+
+        return new CheckoutResponse(OrderService.toRes(order), PaymentService.toRes(payment));
+    }
+}
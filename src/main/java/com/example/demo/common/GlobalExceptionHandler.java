@@ -1,22 +1,78 @@
 package com.example.demo.common;
 
+import com.example.demo.common.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
         HttpStatus status = e.getMessage() != null && e.getMessage().contains("not found")
                 ? HttpStatus.NOT_FOUND
                 : HttpStatus.BAD_REQUEST;
 
+        return respond(e, status);
+    }
+
+    // 본문 역직렬화 실패: Money 등 값 타입이 던진 IllegalArgumentException 은 Jackson 예외에 싸여 오므로 풀어서 같은 400 본문으로
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, String>> handleNotReadable(HttpMessageNotReadableException e) {
+        for (Throwable c = e.getCause(); c != null && c != c.getCause(); c = c.getCause()) {
+            if (c instanceof IllegalArgumentException iae) return respond(iae, HttpStatus.BAD_REQUEST);
+        }
+        return respond(e, HttpStatus.BAD_REQUEST, "malformed request body");
+    }
+
+    // 상태 전이 불가 (이미 승인된 결제 등). IllegalStateException 전체가 아니라 도메인 충돌만 409
+    @ExceptionHandler(StateConflictException.class)
+    public ResponseEntity<Map<String, String>> handleStateConflict(StateConflictException e) {
+        return respond(e, HttpStatus.CONFLICT);
+    }
+
+    // 재시도 후에도 남은 버전 충돌/락 대기 실패
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<Map<String, String>> handleConcurrencyFailure(ConcurrencyFailureException e) {
+        return respond(e, HttpStatus.CONFLICT, "concurrent update, please retry");
+    }
+
+    // 회원별 쓰기 한도 초과: 다음 토큰이 생길 때까지 기다리라고 알려준다
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimit(RateLimitExceededException e) {
+        ResponseEntity<Map<String, String>> res = respond(e, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(res.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                .body(res.getBody());
+    }
+
+    // 메시지에는 요청 값이 섞일 수 있어 태그는 예외 타입과 상태 코드만 쓴다
+    private ResponseEntity<Map<String, String>> respond(Exception e, HttpStatus status) {
+        return respond(e, status, e.getMessage());
+    }
+
+    private ResponseEntity<Map<String, String>> respond(Exception e, HttpStatus status, String message) {
+        Counter.builder("app.exceptions")
+                .description("GlobalExceptionHandler 가 응답으로 바꾼 예외 수")
+                .tag("exception", e.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+
         return ResponseEntity.status(status)
-                .body(Map.of("message", e.getMessage()));
+                .body(Map.of("message", message));
     }
 }
@@ -0,0 +1,13 @@
+package com.example.demo.common;
+
+/**
+ * 현재 상태에서 할 수 없는 요청 → 409 (GlobalExceptionHandler).
+ * 이미 승인된 결제 재승인, 같은 Idempotency-Key 요청이 처리 중인 경우 등 클라이언트에 그대로 알려도 되는 충돌만 던진다.
+ * 그 밖의 IllegalStateException(직렬화 실패, 프레임워크 오류)은 500 으로 남는다.
+ */
+public class StateConflictException extends RuntimeException {
+
+    public StateConflictException(String message) {
+        super(message);
+    }
+}
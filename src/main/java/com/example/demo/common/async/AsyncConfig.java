@@ -0,0 +1,13 @@
+package com.example.demo.common.async;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} 와 MVC 비동기 요청(StreamingResponseBody)은 Boot 의 applicationTaskExecutor 를 쓴다.
+ * spring.threads.virtual.enabled=true (virtual 프로파일)이면 Tomcat 요청 스레드와 함께 가상 스레드로 바뀐다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
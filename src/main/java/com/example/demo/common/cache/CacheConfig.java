@@ -0,0 +1,15 @@
+package com.example.demo.common.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 조회 DTO 캐시. 크기/TTL 은 spring.cache.caffeine.spec 으로 설정하고,
+ * hit/miss/eviction 통계는 actuator(cache.gets, cache.evictions, /actuator/caches)로 노출된다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String MEMBERS = "members";
+    public static final String ORDERS = "orders";
+}
@@ -0,0 +1,96 @@
+package com.example.demo.common.etag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 단건 GET 의 조건부 요청(If-None-Match → 304)과 그 빠른 경로용 버전 캐시.
+ * <ul>
+ *     <li>ETag 는 엔티티 @Version 값 (응답 본문 해시가 아님) → 같은 버전이면 본문도 같다</li>
+ *     <li>(타입, id) → 마지막으로 본 버전. 맞으면 DTO 조회도 Jackson 직렬화도 없이 304</li>
+ *     <li>버전은 증가만 하므로 max 로 합친다: 늦게 도착한 옛 DTO 가 새 버전을 덮지 못한다</li>
+ *     <li>쓰기는 커밋 후 새 버전을 기록한다 (벌크 UPDATE 도 올라간 버전을 다시 읽어서). 지우기만 하면
+ *     커밋 전에 읽힌 옛 버전이 다시 들어와도 비교할 새 버전이 없다</li>
+ * </ul>
+ */
+@Component
+public class EntityVersions {
+    public static final String MEMBER = "member";
+    public static final String ORDER = "order";
+    public static final String PAYMENT = "payment";
+
+    private final Cache<Key, Long> versions;
+
+    public EntityVersions(@Value("${app.etag.max-entries:100000}") long maxEntries,
+                          @Value("${app.etag.ttl:1m}") Duration ttl) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 캐시된 버전이 If-None-Match 와 맞으면 loader 없이 304, 아니면 loader 결과를 ETag 와 함께 200.
+     * (200 경로에서도 MVC 가 ETag 를 다시 비교해 일치하면 본문 없이 304 로 바꾼다)
+     */
+    public <T> ResponseEntity<T> conditionalGet(String type, Long id, String ifNoneMatch,
+                                                Supplier<T> loader, Function<T, Long> version) {
+        Long known = ifNoneMatch == null ? null : versions.getIfPresent(new Key(type, id));
+        if (known != null && ETags.matches(ifNoneMatch, ETags.of(known))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(ETags.of(known))
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        T body = loader.get();
+        Long v = version.apply(body);
+        if (v == null) return ResponseEntity.ok(body);
+        record(type, id, v);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(v))
+                .cacheControl(CacheControl.noCache()) // 캐시해도 되지만 매번 재검증
+                .body(body);
+    }
+
+    void record(String type, Long id, long version) {
+        versions.asMap().merge(new Key(type, id), version, Math::max);
+    }
+
+    Long get(String type, Long id) {
+        return versions.getIfPresent(new Key(type, id));
+    }
+
+    /** 커밋 후 새 버전을 기록한다 (트랜잭션 밖이면 즉시) */
+    public void updateAfterCommit(String type, Long id, Long version) {
+        if (version == null) return;
+        afterCommit(() -> record(type, id, version));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(String type, Long id) {
+    }
+}
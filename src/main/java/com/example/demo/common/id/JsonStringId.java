@@ -0,0 +1,23 @@
+package com.example.demo.common.id;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 응답 JSON 에서 Snowflake ID 를 문자열로 내보낸다.
+ * 41비트 타임스탬프를 22비트 올린 값은 EPOCH 후 한 달 남짓이면 2^53 을 넘어,
+ * 숫자로 주면 JavaScript(Number) 클라이언트에서 조용히 반올림된다.
+ * 요청 본문은 숫자 / 문자열 모두 받는다 (Jackson 스칼라 강제 변환).
+ */
+@JacksonAnnotationsInside
+@JsonSerialize(using = ToStringSerializer.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface JsonStringId {
+}
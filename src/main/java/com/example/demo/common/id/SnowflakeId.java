@@ -0,0 +1,18 @@
+package com.example.demo.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 식별자를 애플리케이션에서 {@link SnowflakeIdGenerator} 로 발급한다.
+ * DB 왕복 없이 insert 전에 키가 정해지므로 JDBC 배치가 그대로 유지된다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,60 @@
+package com.example.demo.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 64비트 ID 생성기.
+ * <pre>
+ * | 부호 1 | 타임스탬프(ms, EPOCH 기준) 41 | 노드 10 | 시퀀스 12 |
+ * </pre>
+ * 타임스탬프와 시퀀스를 하나의 AtomicLong 에 담아 CAS 로만 갱신하므로 락이 없다.
+ * 같은 ms 안에서 시퀀스가 넘치거나 시계가 뒤로 가면 다음 ms 를 미리 빌려 쓰기 때문에
+ * 노드 안에서는 항상 단조 증가한다.
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (마지막 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // 새 ms 면 시퀀스 0부터, 아니면 +1 (시퀀스가 넘치면 자연스럽게 타임스탬프로 올림)
+            long next = now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static long nodeOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    public static long epochMillisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
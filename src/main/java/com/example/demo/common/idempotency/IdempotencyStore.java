@@ -0,0 +1,113 @@
+package com.example.demo.common.idempotency;
+
+import com.example.demo.common.StateConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 첫 성공 응답 저장소.
+ * <ul>
+ *     <li>크기 제한 + TTL (Caffeine), 인스턴스 로컬</li>
+ *     <li>진행 중인 키는 키별 future 로 등록: 같은 키의 동시 요청만 그 future 를 (락 밖에서) 기다렸다가 응답을 재사용하고,
+ *     다른 키는 서로 기다리지 않는다</li>
+ *     <li>실패한 요청은 저장하지 않는다 → 기다리던 요청이나 재시도가 같은 키로 다시 실행할 수 있다</li>
+ * </ul>
+ */
+@Component
+public class IdempotencyStore {
+    /** 요청 헤더: 클라이언트가 정한 멱등 키 */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    /** 응답 헤더: 저장된 응답을 재사용했으면 true */
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> responses;
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+
+    public IdempotencyStore(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.max-entries:100000}") long maxEntries,
+                            @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * @param scope       엔드포인트 구분 (같은 키라도 엔드포인트가 다르면 별개)
+     * @param key         클라이언트가 보낸 Idempotency-Key
+     * @param fingerprint 요청 내용 요약, 같은 키로 다른 요청을 보내면 거부한다
+     */
+    public <T> Outcome<T> execute(String scope, String key, String fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank()) throw new IllegalArgumentException("Idempotency-Key must not be blank");
+        if (key.length() > MAX_KEY_LENGTH)
+            throw new IllegalArgumentException("Idempotency-Key too long (max " + MAX_KEY_LENGTH + ")");
+        String id = scope + ':' + key;
+
+        while (true) {
+            Outcome<T> replay = replay(id, fingerprint);
+            if (replay != null) return replay;
+
+            CompletableFuture<Void> mine = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlight.putIfAbsent(id, mine);
+            if (running != null) {
+                await(running); // 끝나면 저장된 응답을 재생하거나, 실패였으면 다시 시도
+                continue;
+            }
+            try {
+                replay = replay(id, fingerprint); // 등록 직전에 먼저 온 요청이 끝났을 수 있다
+                if (replay != null) return replay;
+
+                T response = action.get();
+                responses.put(id, new Entry(fingerprint, response));
+                return new Outcome<>(response, false);
+            } finally {
+                inFlight.remove(id, mine); // 응답을 저장한 뒤에 풀어야 기다리던 요청이 재생한다
+                mine.complete(null);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Outcome<T> replay(String id, String fingerprint) {
+        Entry entry = responses.getIfPresent(id);
+        if (entry == null) return null;
+        if (!Objects.equals(entry.fingerprint(), fingerprint))
+            throw new IllegalArgumentException("Idempotency-Key reused with a different request");
+        return new Outcome<>((T) entry.response(), true);
+    }
+
+    private void await(CompletableFuture<Void> running) {
+        try {
+            running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new StateConflictException("request with the same Idempotency-Key is in progress");
+        } catch (ExecutionException e) {
+            // 완료만 알리는 future 라 예외로 끝나지 않는다
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for Idempotency-Key");
+        }
+    }
+
+    private record Entry(String fingerprint, Object response) {
+    }
+
+    /** replayed=true 면 저장된 첫 응답을 돌려준 것 (서비스 호출 없음) */
+    public record Outcome<T>(T response, boolean replayed) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.common.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 금액. 소수 2자리 고정이라 최소 단위(x100)를 long 하나로 들고 다닌다.
+ * <ul>
+ *     <li>JSON: 숫자 {@code 12345.67} (double 을 거치지 않고 텍스트 그대로 읽고 쓴다)</li>
+ *     <li>DB: bigint 최소 단위 ({@link MoneyConverter})</li>
+ * </ul>
+ * 소수 3자리 이상은 반올림하지 않고 거부한다.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public record Money(long minor) implements Comparable<Money> {
+    public static final int SCALE = 2;
+    private static final long FACTOR = 100;
+
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofMinor(long minor) {
+        return new Money(minor);
+    }
+
+    public static Money of(long major) {
+        try {
+            return new Money(Math.multiplyExact(major, FACTOR));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("amount out of range");
+        }
+    }
+
+    /** "12345", "12345.6", "-0.50" 형식. 소수점 아래 0 이 아닌 셋째 자리부터는 거부 */
+    public static Money valueOf(String text) {
+        if (text == null || text.isEmpty()) throw new IllegalArgumentException("invalid amount: " + text);
+        if (text.indexOf('e') >= 0 || text.indexOf('E') >= 0) return fromBigDecimal(text);
+
+        int i = 0;
+        boolean negative = false;
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long major = 0;
+        int digits = 0;
+        for (; i < text.length() && text.charAt(i) != '.'; i++, digits++) {
+            major = appendDigit(major, text, i);
+        }
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (i < text.length()) { // '.'
+            for (i++; i < text.length(); i++, fractionDigits++) {
+                char c = text.charAt(i);
+                if (fractionDigits >= SCALE) {
+                    if (c < '0' || c > '9') throw new IllegalArgumentException("invalid amount: " + text);
+                    if (c != '0') throw new IllegalArgumentException("amount scale must be <= " + SCALE);
+                    continue;
+                }
+                fraction = appendDigit(fraction, text, i);
+            }
+            if (fractionDigits == 0) throw new IllegalArgumentException("invalid amount: " + text);
+        }
+        if (digits == 0) throw new IllegalArgumentException("invalid amount: " + text);
+        for (int d = Math.min(fractionDigits, SCALE); d < SCALE; d++) fraction *= 10;
+
+        try {
+            long minor = Math.addExact(Math.multiplyExact(major, FACTOR), fraction);
+            return new Money(negative ? -minor : minor);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("amount out of range");
+        }
+    }
+
+    private static long appendDigit(long acc, String text, int i) {
+        char c = text.charAt(i);
+        if (c < '0' || c > '9') throw new IllegalArgumentException("invalid amount: " + text);
+        try {
+            return Math.addExact(Math.multiplyExact(acc, 10), c - '0');
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("amount out of range");
+        }
+    }
+
+    // 지수 표기(1.5E3)처럼 드문 입력만 BigDecimal 로 처리
+    private static Money fromBigDecimal(String text) {
+        try {
+            return new Money(new BigDecimal(text).setScale(SCALE).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("amount scale must be <= " + SCALE);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid amount: " + text);
+        }
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minor, other.minor));
+    }
+
+    public int signum() {
+        return Long.signum(minor);
+    }
+
+    public boolean isNegative() {
+        return minor < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    /** 항상 소수 2자리: 12345.60 */
+    @Override
+    public String toString() {
+        long major = minor / FACTOR;
+        long cents = Math.abs(minor % FACTOR);
+        StringBuilder sb = new StringBuilder(24);
+        if (minor < 0 && major == 0) sb.append('-');
+        sb.append(major).append('.');
+        if (cents < 10) sb.append('0');
+        return sb.append(cents).toString();
+    }
+
+    static final class Serializer extends StdSerializer<Money> {
+        Serializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toString());
+        }
+    }
+
+    static final class Deserializer extends StdDeserializer<Money> {
+        Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return switch (p.currentToken()) {
+                case VALUE_NUMBER_INT -> Money.of(p.getLongValue());
+                case VALUE_NUMBER_FLOAT, VALUE_STRING -> Money.valueOf(p.getText().trim());
+                default -> (Money) ctxt.handleUnexpectedToken(Money.class, p);
+            };
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.common.outbox;
+
+import com.example.demo.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 행. 쓰기는 OutboxWriter(도메인 트랜잭션 안), 전달 상태 변경은 OutboxRelay 의 벌크 UPDATE 로만.
+ * ID 는 Snowflake 라 PK 순서가 대략 생성 순서다.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class OutboxEvent {
+
+    @Id @SnowflakeId
+    private Long EventId;
+
+    @Column(nullable = false, length = 30)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    // 재시도 백오프: 이 시각 전에는 다시 보내지 않는다 (null 이면 바로)
+    private LocalDateTime nextAttemptAt;
+
+    // 재시도 한도 초과 시각: 수동으로 되돌리기 전까지 같은 애그리거트의 뒤 이벤트도 보내지 않는다
+    private LocalDateTime parkedAt;
+
+    public static OutboxEvent of(OutboxPayload event, String payload, LocalDateTime now) {
+        return OutboxEvent.builder()
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .eventType(event.eventType())
+                .payload(payload)
+                .createdAt(now)
+                .build();
+    }
+}
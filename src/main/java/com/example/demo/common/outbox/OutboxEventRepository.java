@@ -0,0 +1,55 @@
+package com.example.demo.common.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달 대상을 PK 순서로 (idx_outbox_pending): parked / 백오프 중인 것은 빼고,
+    // 같은 애그리거트에 그런 앞선 이벤트가 있으면 뒤 이벤트도 뺀다 (순서 유지, idx_outbox_aggregate)
+    @Query("""
+            select new com.example.demo.common.outbox.OutboxMessage(
+                e.EventId, e.aggregateType, e.aggregateId, e.eventType, e.payload, e.attempts)
+            from OutboxEvent e
+            where e.publishedAt is null and e.parkedAt is null
+              and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+              and not exists (
+                  select 1 from OutboxEvent b
+                  where b.aggregateId = e.aggregateId and b.aggregateType = e.aggregateType
+                    and b.EventId < e.EventId and b.publishedAt is null
+                    and (b.parkedAt is not null or b.nextAttemptAt > :now))
+            order by e.EventId
+            """)
+    List<OutboxMessage> findPending(@Param("now") LocalDateTime now, Pageable limit);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :now where e.EventId in :ids and e.publishedAt is null")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :next where e.EventId in :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("next") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.parkedAt = :now where e.EventId in :ids")
+    int markParked(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 전달 완료 이벤트 (published_at 범위, idx_outbox_pending)
+    @Query("select e.EventId from OutboxEvent e where e.publishedAt < :cutoff order by e.publishedAt")
+    List<Long> findPublishedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.EventId in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // app.outbox.parked 게이지 (수동 처리 대기 수)
+    @Query("select count(e) from OutboxEvent e where e.publishedAt is null and e.parkedAt is not null")
+    long countParked();
+}
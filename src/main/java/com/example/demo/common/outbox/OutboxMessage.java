@@ -0,0 +1,15 @@
+package com.example.demo.common.outbox;
+
+/**
+ * 구독자에게 전달되는 아웃박스 이벤트.
+ * 같은 eventId 가 두 번 이상 올 수 있으므로(at-least-once) 구독자는 eventId 로 멱등 처리한다.
+ */
+public record OutboxMessage(
+        Long eventId,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        int attempts
+) {
+}
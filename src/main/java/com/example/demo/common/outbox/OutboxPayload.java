@@ -0,0 +1,14 @@
+package com.example.demo.common.outbox;
+
+/**
+ * 아웃박스에 쌓을 도메인 이벤트. 구현체(record)의 컴포넌트가 그대로 JSON payload 가 된다.
+ * 릴레이는 (aggregateType, aggregateId) 가 같은 이벤트끼리만 순서를 지키므로, 순서가 필요한 이벤트는 같은 애그리거트로 묶는다.
+ */
+public interface OutboxPayload {
+
+    String aggregateType();
+
+    Long aggregateId();
+
+    String eventType();
+}
@@ -0,0 +1,62 @@
+package com.example.demo.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전달이 끝나고 retention 이 지난 아웃박스 이벤트를 지운다 (미전달 / parked 는 남긴다).
+ * published_at 범위로 PK 를 purge-batch-size 만큼 고르고 (idx_outbox_pending 의 선두 컬럼),
+ * 청크마다 한 트랜잭션에서 PK 로 지운다 → 큰 삭제가 락과 undo 를 오래 잡지 않는다.
+ */
+@Component
+public class OutboxPurger {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate tx;
+    private final Counter purged;
+    private final Duration retention;
+    private final int batchSize;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public OutboxPurger(OutboxEventRepository outboxEventRepository,
+                        PlatformTransactionManager txManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.outbox.retention:7d}") Duration retention,
+                        @Value("${app.outbox.purge-batch-size:1000}") int batchSize) {
+        if (retention.isNegative() || retention.isZero())
+            throw new IllegalArgumentException("app.outbox.retention must be > 0");
+        if (batchSize < 1) throw new IllegalArgumentException("app.outbox.purge-batch-size must be >= 1");
+        this.outboxEventRepository = outboxEventRepository;
+        this.tx = new TransactionTemplate(txManager);
+        this.purged = Counter.builder("app.outbox.purged")
+                .description("retention 이 지나 지운 전달 완료 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /** retention 이전에 전달된 이벤트를 모두 지우고 지운 수를 반환한다 */
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        int total = 0;
+        while (true) {
+            List<Long> ids = outboxEventRepository.findPublishedBefore(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return total;
+            Integer deleted = tx.execute(s -> outboxEventRepository.deleteByIds(ids));
+            int n = deleted == null ? 0 : deleted;
+            total += n;
+            purged.increment(n);
+            if (ids.size() < batchSize) return total;
+        }
+    }
+}
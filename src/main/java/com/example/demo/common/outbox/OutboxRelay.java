@@ -0,0 +1,150 @@
+package com.example.demo.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 미전달 아웃박스 이벤트를 batch-size 만큼 PK 순서로 읽어 구독자에게 전달하고,
+ * 결과를 한 트랜잭션의 벌크 UPDATE 로 기록한다 (published / attempts+1 과 다음 시도 시각 / parked).
+ * 전달은 트랜잭션 밖에서 하므로 구독자가 느려도 커넥션을 잡고 있지 않는다.
+ * 전달 후 기록 전에 죽으면 다음 폴링에서 같은 이벤트가 다시 간다 (at-least-once).
+ * 실패한 이벤트는 backoff-initial 부터 두 배씩(최대 backoff-max) 쉬었다가 다시 가고, max-attempts 번 실패하면
+ * parked 로 남는다. 백오프 중이거나 parked 인 이벤트는 같은 애그리거트의 뒤 이벤트를 계속 막는다.
+ */
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSubscriber> subscribers;
+    private final TransactionTemplate tx;
+    private final Counter published;
+    private final Counter failed;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoffInitial;
+    private final Duration backoffMax;
+    private final ReentrantLock draining = new ReentrantLock();
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxSubscriber> subscribers,
+                       PlatformTransactionManager txManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.backoff-initial:1s}") Duration backoffInitial,
+                       @Value("${app.outbox.backoff-max:5m}") Duration backoffMax) {
+        if (batchSize < 1) throw new IllegalArgumentException("app.outbox.batch-size must be >= 1");
+        if (maxAttempts < 1) throw new IllegalArgumentException("app.outbox.max-attempts must be >= 1");
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.tx = new TransactionTemplate(txManager);
+        this.published = Counter.builder("app.outbox.published")
+                .description("구독자 전달에 성공한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("app.outbox.failed")
+                .description("구독자 예외로 전달에 실패한 아웃박스 이벤트 수 (재시도 대기 + parked)")
+                .register(meterRegistry);
+        Gauge.builder("app.outbox.parked", outboxEventRepository, OutboxEventRepository::countParked)
+                .description("재시도 한도를 넘겨 수동 처리를 기다리는 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffInitial = backoffInitial;
+        this.backoffMax = backoffMax;
+    }
+
+    /**
+     * 밀린 이벤트를 모두 전달한다. 꽉 찬 배치가 실패 없이 끝나면 바로 다음 배치를 읽고,
+     * 실패가 있으면 다음 폴링까지 쉰다. 이미 다른 스레드가 돌고 있으면 0 을 반환한다.
+     */
+    public int drain() {
+        if (!draining.tryLock()) return 0;
+        try {
+            int total = 0;
+            while (true) {
+                BatchResult r = relayBatch();
+                total += r.published();
+                if (r.fetched() < batchSize || r.failed() > 0) return total;
+            }
+        } finally {
+            draining.unlock();
+        }
+    }
+
+    BatchResult relayBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxMessage> batch = outboxEventRepository.findPending(now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) return new BatchResult(0, 0, 0);
+
+        List<Long> ok = new ArrayList<>(batch.size());
+        Map<LocalDateTime, List<Long>> retry = new TreeMap<>(); // 다음 시도 시각별 (실패 횟수가 같으면 같은 시각)
+        List<Long> parked = new ArrayList<>();
+        // 같은 애그리거트의 앞선 이벤트가 실패하면 뒤 이벤트는 이번엔 보내지 않는다 (순서 유지)
+        Set<String> blocked = new HashSet<>();
+        for (OutboxMessage m : batch) {
+            String aggregate = m.aggregateType() + ":" + m.aggregateId();
+            if (blocked.contains(aggregate)) continue;
+            if (deliver(m)) {
+                ok.add(m.eventId());
+                continue;
+            }
+            blocked.add(aggregate);
+            int attempts = m.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                parked.add(m.eventId());
+            } else {
+                retry.computeIfAbsent(now.plus(backoff(attempts)), t -> new ArrayList<>()).add(m.eventId());
+            }
+        }
+
+        tx.executeWithoutResult(s -> {
+            if (!ok.isEmpty()) outboxEventRepository.markPublished(ok, now);
+            retry.forEach((next, ids) -> outboxEventRepository.markFailed(ids, next));
+            if (!parked.isEmpty()) outboxEventRepository.markParked(parked, now);
+        });
+        int ko = retry.values().stream().mapToInt(List::size).sum() + parked.size();
+        published.increment(ok.size());
+        failed.increment(ko);
+        return new BatchResult(batch.size(), ok.size(), ko);
+    }
+
+    // attempts 번째 실패 뒤 쉬는 시간: backoff-initial * 2^(attempts-1), 최대 backoff-max
+    private Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration d = backoffInitial.multipliedBy(1L << shift);
+        return d.compareTo(backoffMax) > 0 ? backoffMax : d;
+    }
+
+    // 구독자 하나라도 실패하면 이벤트 전체를 다시 보낸다 → 성공했던 구독자도 다시 받는다
+    private boolean deliver(OutboxMessage message) {
+        for (OutboxSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onEvent(message);
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    record BatchResult(int fetched, int published, int failed) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 아웃박스 폴링. fixedDelay 라 이전 drain 이 끝난 뒤 poll-interval 만큼 쉬고 다시 돈다.
+ * 전달 완료 이벤트 정리는 purge-interval 마다.
+ * 테스트 / 벤치마크는 app.outbox.relay.enabled=false 로 끄고 OutboxRelay.drain() / OutboxPurger.purge() 를 직접 부른다.
+ */
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+    private final OutboxRelay outboxRelay;
+    private final OutboxPurger outboxPurger;
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:500ms}",
+            initialDelayString = "${app.outbox.poll-interval:500ms}")
+    public void poll() {
+        outboxRelay.drain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:1h}",
+            initialDelayString = "${app.outbox.purge-interval:1h}")
+    public void purge() {
+        outboxPurger.purge();
+    }
+
+    // fast-start(lazy) 프로파일에서도 폴링은 기동 시 등록돼야 한다 (아무도 이 빈을 주입받지 않으므로)
+    @Bean
+    static LazyInitializationExcludeFilter outboxRelaySchedulerEagerInit() {
+        return LazyInitializationExcludeFilter.forBeanTypes(OutboxRelayScheduler.class);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.common.outbox;
+
+/**
+ * 로컬 구독자 (배송, 알림 연동 등). 빈으로 등록하면 OutboxRelay 가 모든 이벤트를 전달한다.
+ * 예외를 던지면 그 이벤트는 미전달로 남아 다음 폴링에서 다시 온다.
+ */
+public interface OutboxSubscriber {
+
+    void onEvent(OutboxMessage message) throws Exception;
+}
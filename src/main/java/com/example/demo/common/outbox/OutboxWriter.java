@@ -0,0 +1,48 @@
+package com.example.demo.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 이벤트를 outbox_event 에 쌓는다 (MANDATORY).
+ * 롤백되면 이벤트도 사라지고, 커밋되면 릴레이가 반드시 한 번 이상 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxPayload event) {
+        outboxEventRepository.save(OutboxEvent.of(event, toJson(event), LocalDateTime.now(clock)));
+    }
+
+    // 대량 생성 경로: insert 는 JDBC 배치로 나간다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<? extends OutboxPayload> events) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEvent> rows = new ArrayList<>(events.size());
+        for (OutboxPayload event : events) rows.add(OutboxEvent.of(event, toJson(event), now));
+        outboxEventRepository.saveAll(rows);
+    }
+
+    private String toJson(OutboxPayload event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("cannot serialize " + event.eventType(), e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원별 쓰기 요청 제한 (토큰 버킷과 같은 동작의 GCRA).
+ * <ul>
+ *     <li>버킷 상태는 엔드포인트별 "다음 요청이 이론상 도착할 시각"(TAT, 나노초) 하나 → CAS 한 번으로 갱신, 락 없음</li>
+ *     <li>회원 → 버킷은 크기 제한 + 유휴 만료 Caffeine 맵, 인스턴스 로컬</li>
+ *     <li>만료/축출된 회원은 가득 찬 버킷으로 다시 시작한다 (idle-timeout 이 burst / per-second 보다 길면 차이 없음)</li>
+ * </ul>
+ */
+@Component
+public class MemberRateLimiter {
+    private static final RateLimitScope[] SCOPES = RateLimitScope.values();
+
+    private final boolean enabled;
+    private final long[] intervalNanos = new long[SCOPES.length];  // 토큰 1개가 채워지는 시간
+    private final long[] toleranceNanos = new long[SCOPES.length]; // burst 개를 한 번에 쓸 수 있는 여유
+    private final Cache<Long, AtomicLongArray> buckets;
+    private final LongSupplier clock;
+
+    @Autowired
+    public MemberRateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${app.rate-limit.orders.per-second:10}") double ordersPerSecond,
+                             @Value("${app.rate-limit.orders.burst:20}") int ordersBurst,
+                             @Value("${app.rate-limit.payments.per-second:10}") double paymentsPerSecond,
+                             @Value("${app.rate-limit.payments.burst:20}") int paymentsBurst,
+                             @Value("${app.rate-limit.order-batches.per-second:1}") double orderBatchesPerSecond,
+                             @Value("${app.rate-limit.order-batches.burst:5}") int orderBatchesBurst,
+                             @Value("${app.rate-limit.max-members:100000}") long maxMembers,
+                             @Value("${app.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this(enabled, maxMembers, idleTimeout, monotonicClock());
+        limit(RateLimitScope.ORDER_CREATE, ordersPerSecond, ordersBurst);
+        limit(RateLimitScope.PAYMENT_REQUEST, paymentsPerSecond, paymentsBurst);
+        limit(RateLimitScope.ORDER_BATCH, orderBatchesPerSecond, orderBatchesBurst);
+    }
+
+    // 테스트 / 벤치마크: 시계를 바꿔 끼우고 한도는 limit() 으로
+    MemberRateLimiter(boolean enabled, long maxMembers, Duration idleTimeout, LongSupplier clock) {
+        this.enabled = enabled;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.clock = clock;
+    }
+
+    MemberRateLimiter limit(RateLimitScope scope, double perSecond, int burst) {
+        if (perSecond <= 0) throw new IllegalArgumentException("per-second must be > 0 (" + scope + ")");
+        if (burst < 1) throw new IllegalArgumentException("burst must be >= 1 (" + scope + ")");
+        intervalNanos[scope.ordinal()] = (long) Math.ceil(1_000_000_000d / perSecond);
+        toleranceNanos[scope.ordinal()] = intervalNanos[scope.ordinal()] * burst;
+        return this;
+    }
+
+    /**
+     * 토큰 하나를 쓴다. 남은 토큰이 없으면 다음 토큰이 생길 때까지의 시간을 담아 던진다.
+     * memberId 가 없으면 제한하지 않는다 (요청 검증에서 400).
+     */
+    public void acquire(RateLimitScope scope, Long memberId) {
+        if (!enabled || memberId == null) return;
+        int i = scope.ordinal();
+        long interval = intervalNanos[i];
+        long tolerance = toleranceNanos[i];
+        AtomicLongArray tats = buckets.get(memberId, id -> new AtomicLongArray(SCOPES.length));
+
+        while (true) {
+            long now = clock.getAsLong();
+            long tat = tats.get(i);
+            long next = Math.max(tat, now) + interval;
+            long wait = next - tolerance - now;
+            if (wait > 0) throw new RateLimitExceededException(scope, Duration.ofNanos(wait));
+            if (tats.compareAndSet(i, tat, next)) return;
+        }
+    }
+
+    /**
+     * 회원마다 토큰 하나씩 (일괄 요청). 한 명이라도 모자라면 앞서 쓴 토큰을 돌려주고 던진다 → 전부 쓰거나 하나도 안 쓴다.
+     */
+    public void acquireEach(RateLimitScope scope, Collection<Long> memberIds) {
+        if (!enabled) return;
+        List<Long> taken = new ArrayList<>(memberIds.size());
+        try {
+            for (Long memberId : memberIds) {
+                acquire(scope, memberId);
+                taken.add(memberId);
+            }
+        } catch (RateLimitExceededException e) {
+            taken.forEach(memberId -> release(scope, memberId));
+            throw e;
+        }
+    }
+
+    /**
+     * 한 회원의 여러 버킷에서 하나씩 (체크아웃: 주문 + 결제). 하나라도 모자라면 앞서 쓴 토큰을 돌려주고 던진다.
+     */
+    public void acquireAll(Long memberId, RateLimitScope... scopes) {
+        if (!enabled || memberId == null) return;
+        int taken = 0;
+        try {
+            for (RateLimitScope scope : scopes) {
+                acquire(scope, memberId);
+                taken++;
+            }
+        } catch (RateLimitExceededException e) {
+            for (int k = 0; k < taken; k++) release(scopes[k], memberId);
+            throw e;
+        }
+    }
+
+    // 쓴 토큰 하나를 돌려준다. TAT 가 이미 now 보다 과거면 max(tat, now) 에 묻혀 burst 를 넘는 여유는 생기지 않는다
+    private void release(RateLimitScope scope, Long memberId) {
+        if (memberId == null) return;
+        AtomicLongArray tats = buckets.getIfPresent(memberId);
+        if (tats != null) tats.addAndGet(scope.ordinal(), -intervalNanos[scope.ordinal()]);
+    }
+
+    // nanoTime 은 음수일 수 있어 기동 시각 기준으로 옮긴다 (새 버킷의 TAT 0 = 가득 참)
+    static LongSupplier monotonicClock() {
+        long origin = System.nanoTime();
+        return () -> System.nanoTime() - origin;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 회원별 한도 초과 → 429 + Retry-After (GlobalExceptionHandler).
+ * 초과 요청은 대량으로 오므로 스택 트레이스는 만들지 않는다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(RateLimitScope scope, Duration retryAfter) {
+        super("too many requests (" + scope + ")", null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() { return retryAfter; }
+
+    /** Retry-After 헤더 값: 초 단위 올림, 최소 1 */
+    public long retryAfterSeconds() {
+        long seconds = retryAfter.toSeconds();
+        return retryAfter.toNanosPart() > 0 || seconds == 0 ? seconds + 1 : seconds;
+    }
+}
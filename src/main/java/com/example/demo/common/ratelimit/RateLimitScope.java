@@ -0,0 +1,10 @@
+package com.example.demo.common.ratelimit;
+
+/**
+ * 회원별 제한을 거는 쓰기 엔드포인트. 한도는 엔드포인트마다 따로 설정한다 (app.rate-limit.*).
+ */
+public enum RateLimitScope {
+    ORDER_CREATE,    // POST /api/orders, /api/checkout
+    PAYMENT_REQUEST, // POST /api/payments, /api/checkout
+    ORDER_BATCH      // POST /api/orders/batch (요청마다 회원당 1개, 주문 수와 무관)
+}
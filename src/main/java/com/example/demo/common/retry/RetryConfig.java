@@ -0,0 +1,13 @@
+package com.example.demo.common.retry;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * {@code @Retryable} 은 트랜잭션 바깥에서 감싸야 재시도마다 새 트랜잭션으로 다시 읽는다.
+ * 재시도 어드바이저 순서(LOWEST_PRECEDENCE - 1)가 트랜잭션(LOWEST_PRECEDENCE)보다 앞이라 그렇게 된다.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
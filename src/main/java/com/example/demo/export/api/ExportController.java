@@ -0,0 +1,40 @@
+package com.example.demo.export.api;
+
+import com.example.demo.export.service.ExportFormat;
+import com.example.demo.export.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+    private final ExportService exportService;
+
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> orders(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat f = ExportFormat.from(format);
+        return attachment("orders", f, out -> exportService.writeOrders(f, out));
+    }
+
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> payments(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat f = ExportFormat.from(format);
+        return attachment("payments", f, out -> exportService.writePayments(f, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format,
+                                                                    StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.export.service;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() { return extension; }
+
+    public MediaType mediaType() { return mediaType; }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat f : values()) {
+            if (f.extension.equalsIgnoreCase(value)) return f;
+        }
+        throw new IllegalArgumentException("unsupported export format: " + value);
+    }
+}
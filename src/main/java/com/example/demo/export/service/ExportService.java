@@ -0,0 +1,97 @@
+package com.example.demo.export.service;
+
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import com.example.demo.payment.repository.PaymentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 주문/결제 전체 내보내기.
+ * DTO 프로젝션을 JPA Stream 으로 한 행씩 읽어 바로 출력하므로 영속성 컨텍스트에 아무것도 쌓이지 않고,
+ * 힙 사용량은 행 수와 무관하게 fetch size + 출력 버퍼 수준으로 유지된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
+public class ExportService {
+    private static final List<String> ORDER_COLUMNS =
+            List.of("orderId", "memberId", "status", "orderDate", "amount");
+    private static final List<String> PAYMENT_COLUMNS =
+            List.of("paymentId", "orderId", "status", "method", "amount", "approvedAt");
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+
+    public void writeOrders(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<OrderResponse> rows = orderRepository.streamAll()) {
+            write(rows.iterator(), format, ORDER_COLUMNS, o -> Arrays.asList(
+                    o.getOrderId(), o.getMemberId(), o.getStatus(), o.getOrderDate(), o.getAmount()), out);
+        }
+    }
+
+    public void writePayments(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<PaymentResponse> rows = paymentRepository.streamAll()) {
+            write(rows.iterator(), format, PAYMENT_COLUMNS, p -> Arrays.asList(
+                    p.getPaymentId(), p.getOrderId(), p.getStatus(), p.getMethod(), p.getAmount(), p.getApprovedAt()), out);
+        }
+    }
+
+    private <T> void write(Iterator<T> rows, ExportFormat format, List<String> columns,
+                           Function<T, List<?>> fields, OutputStream out) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            // 제너레이터 하나로 한 줄에 하나씩, 행마다 flush 하지 않는다
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                gen.setRootValueSeparator(null);
+                while (rows.hasNext()) {
+                    writer.writeValue(gen, rows.next());
+                    gen.writeRaw('\n');
+                }
+            }
+            return;
+        }
+
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write(String.join(",", columns));
+        csv.write('\n');
+        while (rows.hasNext()) {
+            List<?> values = fields.apply(rows.next());
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) csv.write(',');
+                csv.write(csvEscape(values.get(i)));
+            }
+            csv.write('\n');
+        }
+        csv.flush();
+    }
+
+    static String csvEscape(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.demo.member.api;
 
 
+import com.example.demo.common.etag.EntityVersions;
 import com.example.demo.member.api.dto.MemberCreateRequest;
 import com.example.demo.member.api.dto.MemberResponse;
+import com.example.demo.member.api.dto.MemberStatsRebuildResponse;
+import com.example.demo.member.api.dto.MemberStatsResponse;
 import com.example.demo.member.service.MemberService;
+import com.example.demo.member.service.MemberStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -12,6 +18,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class MemberController {
     private final MemberService memberService;
+    private final MemberStatsService memberStatsService;
+    private final EntityVersions entityVersions;
 
     @PostMapping
     public MemberResponse register(@RequestBody MemberCreateRequest req){
@@ -19,7 +27,21 @@ public class MemberController {
     }
 
     @GetMapping("/{id}")
-    public MemberResponse get(@PathVariable Long id) {
-        return memberService.getDto(id);
+    public ResponseEntity<MemberResponse> get(@PathVariable Long id,
+                                              @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return entityVersions.conditionalGet(EntityVersions.MEMBER, id, ifNoneMatch,
+                () -> memberService.getDto(id), MemberResponse::getVersion);
+    }
+
+    // 주문 수 / 결제 완료 수 / 누적 결제 금액 (member_stats PK 한 건)
+    @GetMapping("/{id}/stats")
+    public MemberStatsResponse stats(@PathVariable Long id) {
+        return memberStatsService.get(id);
+    }
+
+    // 운영용: orders 에서 통계 전체를 다시 집계
+    @PostMapping("/stats/rebuild")
+    public MemberStatsRebuildResponse rebuildStats() {
+        return memberStatsService.rebuild();
     }
 }
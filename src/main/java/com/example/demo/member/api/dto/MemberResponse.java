@@ -1,12 +1,23 @@
 package com.example.demo.member.api.dto;
 
+import com.example.demo.common.id.JsonStringId;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
 public class MemberResponse {
+    @JsonStringId
     private Long memberId;
     private String name;
     private String email;
+
+    // ETag 용 엔티티 버전 (본문에는 넣지 않는다)
+    @JsonIgnore
+    private Long version;
+
+    public MemberResponse(Long memberId, String name, String email) {
+        this(memberId, name, email, null);
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.demo.member.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberStatsRebuildResponse {
+    private int chunks;
+    private long members;
+}
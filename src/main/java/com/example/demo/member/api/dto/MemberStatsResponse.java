@@ -0,0 +1,25 @@
+package com.example.demo.member.api.dto;
+
+import com.example.demo.common.id.JsonStringId;
+import com.example.demo.common.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberStatsResponse {
+    @JsonStringId
+    private Long memberId;
+    private long orderCount;
+    private long paidCount;
+    private Money paidAmount;
+
+    // JPQL 생성자 표현식용 (paidAmount 는 최소 단위)
+    public MemberStatsResponse(Long memberId, long orderCount, long paidCount, long paidAmountMinor) {
+        this(memberId, orderCount, paidCount, Money.ofMinor(paidAmountMinor));
+    }
+
+    public static MemberStatsResponse empty(Long memberId) {
+        return new MemberStatsResponse(memberId, 0, 0, Money.ZERO);
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.demo.member.domain;
 
+import com.example.demo.common.id.SnowflakeId;
 import com.example.demo.order.domain.Order;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,12 +13,14 @@ import java.util.List;
 @Entity
 @Getter
 @Table(name = "member")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "member") // 가입 후 변경되지 않음
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PUBLIC)
 @Builder
 public class Member {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long MemberId;
 
     @Column(nullable = false, length = 100)
@@ -24,6 +29,10 @@ public class Member {
     @Column(nullable = false, unique = true, length = 255)
     private String email;
 
+    // ETag 용 (회원 정보가 바뀌면 올라간다)
+    @Version
+    private Long version;
+
     @Builder.Default
     @OneToMany(mappedBy = "member", cascade = CascadeType.PERSIST)
     private List<Order> orders = new ArrayList<>();
@@ -0,0 +1,29 @@
+package com.example.demo.member.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 주문 통계 요약 (member 와 1:1, 같은 PK).
+ * 값은 MemberStatsRepository 의 증분 UPDATE 로만 바뀐다 → 엔티티로 읽고 고치지 않는다.
+ */
+@Entity
+@Table(name = "member_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStats {
+
+    @Id
+    private Long MemberId;
+
+    private long orderCount;
+
+    private long paidCount;
+
+    // Money.minor 누적: JPQL 에서 + 연산을 하려고 long 으로 둔다
+    private long paidAmount;
+}
@@ -1,10 +1,32 @@
 package com.example.demo.member.repository;
 
+import com.example.demo.member.api.dto.MemberResponse;
 import com.example.demo.member.domain.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    // 쿼리 캐시: member 테이블이 바뀌면 Hibernate 가 결과를 무효화한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Member> findByEmail(String email);
+
+    // 조회 전용: 엔티티/스냅샷 없이 응답 DTO로 바로 select
+    @Query("""
+            select new com.example.demo.member.api.dto.MemberResponse(m.MemberId, m.name, m.email, m.version)
+            from Member m
+            where m.MemberId = :id
+            """)
+    Optional<MemberResponse> findResponseById(@Param("id") Long id);
+
+    // PK 순서 keyset: 통계 재계산 청크 경계 찾기용 (인덱스만 읽는다)
+    @Query("select m.MemberId from Member m where m.MemberId > :afterId order by m.MemberId")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable page);
 }
@@ -0,0 +1,112 @@
+package com.example.demo.member.repository;
+
+import com.example.demo.member.api.dto.MemberStatsResponse;
+import com.example.demo.member.domain.MemberStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 통계는 읽고-고쳐-쓰지 않고 "col = col + :delta" 로만 갱신한다 (행이 없으면 MERGE 가 만든다).
+ * 동시 갱신은 행 락에서 줄을 서므로 증분이 유실되지 않는다.
+ * 네이티브 DML 은 member_stats 만 동기화 공간으로 지정해 다른 2차 캐시 리전을 비우지 않게 한다.
+ */
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    @Query("""
+            select new com.example.demo.member.api.dto.MemberStatsResponse(
+                s.MemberId, s.orderCount, s.paidCount, s.paidAmount)
+            from MemberStats s
+            where s.MemberId = :id
+            """)
+    Optional<MemberStatsResponse> findResponseById(@Param("id") Long id);
+
+    // 회원 가입과 같은 트랜잭션: member insert 가 먼저 나가야 FK 를 만족한다
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into member_stats (member_id, order_count, paid_count, paid_amount)
+            values (:memberId, 0, 0, 0)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_stats"))
+    int insertEmpty(@Param("memberId") Long memberId);
+
+    // 행이 없는 회원(가입 경로를 거치지 않은 데이터 등)은 이 증분으로 만든다
+    @Modifying
+    @Query(value = """
+            merge into member_stats s
+            using (select cast(:memberId as bigint) as member_id) v
+            on s.member_id = v.member_id
+            when matched then update
+                set order_count = s.order_count + :orders,
+                    paid_count = s.paid_count + :paid,
+                    paid_amount = s.paid_amount + :paidAmount
+            when not matched then insert (member_id, order_count, paid_count, paid_amount)
+                values (v.member_id, :orders, :paid, :paidAmount)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_stats"))
+    int increment(@Param("memberId") Long memberId,
+                  @Param("orders") long orders,
+                  @Param("paid") long paid,
+                  @Param("paidAmount") long paidAmount);
+
+    // 일괄 승인 청크: 이번 청크가 잠그고 승인한 결제 id 만 받아 회원별로 합산 (행이 없으면 만든다)
+    @Modifying
+    @Query(value = """
+            merge into member_stats s
+            using (select o.member_id, count(*) as paid, sum(o.total_amount) as paid_amount
+                   from payment p join orders o on o.order_id = p.order_id
+                   where p.payment_id in (:paymentIds)
+                   group by o.member_id) v
+            on s.member_id = v.member_id
+            when matched then update
+                set paid_count = s.paid_count + v.paid,
+                    paid_amount = s.paid_amount + v.paid_amount
+            when not matched then insert (member_id, order_count, paid_count, paid_amount)
+                values (v.member_id, 0, v.paid, v.paid_amount)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_stats"))
+    int incrementPaidForApproved(@Param("paymentIds") Collection<Long> paymentIds);
+
+    // 재계산: 구간 (fromId, toId] 에서 통계 행이 없는 회원을 만든다
+    @Modifying
+    @Query(value = """
+            insert into member_stats (member_id, order_count, paid_count, paid_amount)
+            select m.member_id, 0, 0, 0 from member m
+            where m.member_id > :fromId and m.member_id <= :toId
+              and not exists (select 1 from member_stats s where s.member_id = m.member_id)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_stats"))
+    int insertMissing(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 재계산: 구간 (fromId, toId] 의 통계 행을 회원 id 순서로 잠근다 (addOrders 와 같은 순서).
+    // 이미 증분을 쓴 진행 중 트랜잭션의 커밋을 기다리고, 이후 증분은 재집계 커밋 뒤로 줄 세운다
+    @Query(value = """
+            select s.member_id from member_stats s
+            where s.member_id > :fromId and s.member_id <= :toId
+            order by s.member_id
+            for update
+            """, nativeQuery = true)
+    List<Long> lockRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 재계산: 구간 (fromId, toId] 의 통계를 orders 에서 다시 집계 (idx_orders_member_date)
+    @Modifying
+    @Query(value = """
+            update member_stats s
+            set order_count = (select count(*) from orders o where o.member_id = s.member_id),
+                paid_count = (select count(*) from orders o
+                              where o.member_id = s.member_id and o.status = 'PAID'),
+                paid_amount = (select coalesce(sum(o.total_amount), 0) from orders o
+                               where o.member_id = s.member_id and o.status = 'PAID')
+            where s.member_id > :fromId and s.member_id <= :toId
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "member_stats"))
+    int recompute(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,19 +1,30 @@
 package com.example.demo.member.service;
 
+import com.example.demo.common.cache.CacheConfig;
 import com.example.demo.member.api.dto.MemberCreateRequest;
 import com.example.demo.member.api.dto.MemberResponse;
 import com.example.demo.member.domain.Member;
 import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.member.repository.MemberStatsRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberStatsRepository memberStatsRepository;
 
     @Transactional
     public MemberResponse register(MemberCreateRequest req) {
@@ -21,7 +32,8 @@ public class MemberService {
             throw new IllegalArgumentException("email exists");
         });
         Member saved = memberRepository.save(Member.create(req.getName(), req.getEmail()));
-        return new MemberResponse(saved.getMemberId(), saved.getName(), saved.getEmail());
+        memberStatsRepository.insertEmpty(saved.getMemberId()); // 이후 통계는 증분 UPDATE 만
+        return new MemberResponse(saved.getMemberId(), saved.getName(), saved.getEmail(), saved.getVersion());
     }
 
     public Member get(Long id) {
@@ -29,8 +41,22 @@ public class MemberService {
                 .orElseThrow(() -> new IllegalArgumentException("member not found"));
     }
 
+    // 존재 확인이 끝난 회원의 프록시 (select 없음)
+    public Member getReference(Long id) {
+        return memberRepository.getReferenceById(id);
+    }
+
+    // 여러 회원을 한 번의 쿼리로 조회, 하나라도 없으면 예외
+    public Map<Long, Member> getAll(Collection<Long> ids) {
+        Map<Long, Member> members = memberRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+        if (members.size() != ids.size()) throw new IllegalArgumentException("member not found");
+        return members;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public MemberResponse getDto(Long id) {
-        Member m = get(id);
-        return new MemberResponse(m.getMemberId(), m.getName(), m.getEmail());
+        return memberRepository.findResponseById(id)
+                .orElseThrow(() -> new IllegalArgumentException("member not found"));
     }
 }
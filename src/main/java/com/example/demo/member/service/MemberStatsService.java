@@ -0,0 +1,134 @@
+package com.example.demo.member.service;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.api.dto.MemberStatsRebuildResponse;
+import com.example.demo.member.api.dto.MemberStatsResponse;
+import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.member.repository.MemberStatsRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 주문 통계 (member_stats).
+ * 주문 생성/결제 승인과 같은 트랜잭션에서 증분만 반영하고(MANDATORY), 조회는 PK 한 건이다.
+ * rebuild 는 orders 에서 전체를 다시 집계하는 복구용 명령이다.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
+public class MemberStatsService {
+    static final int REBUILD_CHUNK_SIZE = 1_000;
+    static final int REBUILD_PARALLELISM = 4; // 커넥션 풀(기본 10)을 다 쓰지 않도록
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final MemberRepository memberRepository;
+    private final MemberService memberService;
+    private final TransactionTemplate tx;
+    private final AsyncTaskExecutor executor;
+
+    public MemberStatsService(MemberStatsRepository memberStatsRepository,
+                              MemberRepository memberRepository,
+                              MemberService memberService,
+                              PlatformTransactionManager txManager,
+                              @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                              AsyncTaskExecutor executor) {
+        this.memberStatsRepository = memberStatsRepository;
+        this.memberRepository = memberRepository;
+        this.memberService = memberService;
+        this.tx = new TransactionTemplate(txManager);
+        this.executor = executor;
+    }
+
+    public MemberStatsResponse get(Long memberId) {
+        return memberStatsRepository.findResponseById(memberId).orElseGet(() -> {
+            memberService.getDto(memberId); // 없는 회원이면 "member not found"
+            return MemberStatsResponse.empty(memberId);
+        });
+    }
+
+    // 주문 생성 / 결제 승인 트랜잭션 안에서만 호출된다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long memberId, long orders, long paid, Money paidAmount) {
+        memberStatsRepository.increment(memberId, orders, paid, paidAmount.minor());
+    }
+
+    // 여러 회원의 주문 수: 회원 id 순서로 갱신해 동시 배치끼리 락 순서가 엇갈리지 않게 한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addOrders(Map<Long, Long> orderCountByMember) {
+        orderCountByMember.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> memberStatsRepository.increment(e.getKey(), e.getValue(), 0, 0));
+    }
+
+    // 일괄 승인 청크: 이번 청크가 승인한 결제 id 목록을 set-based 로 반영
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addApprovedPayments(Collection<Long> approvedPaymentIds) {
+        memberStatsRepository.incrementPaidForApproved(approvedPaymentIds);
+    }
+
+    /**
+     * 회원 PK 구간을 REBUILD_CHUNK_SIZE 씩 나눠 REBUILD_PARALLELISM 개 작업자가 청크마다 한 트랜잭션으로 다시 집계한다.
+     * 재집계 전에 청크의 통계 행을 잠가, 이미 증분을 쓴 트랜잭션은 커밋된 뒤 orders 에 포함해 세고
+     * 그 뒤의 증분은 재집계가 커밋된 다음 그 위에 더해지게 한다 (증분이 덮어써지지 않는다).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberStatsRebuildResponse rebuild() {
+        List<long[]> chunks = chunkBounds();
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong members = new AtomicLong();
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>(REBUILD_PARALLELISM);
+        for (int i = 0; i < Math.min(REBUILD_PARALLELISM, chunks.size()); i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                for (int c = next.getAndIncrement(); c < chunks.size(); c = next.getAndIncrement()) {
+                    long[] bounds = chunks.get(c);
+                    Integer rows = tx.execute(s -> {
+                        memberStatsRepository.insertMissing(bounds[0], bounds[1]);
+                        memberStatsRepository.lockRange(bounds[0], bounds[1]);
+                        return memberStatsRepository.recompute(bounds[0], bounds[1]);
+                    });
+                    members.addAndGet(rows == null ? 0 : rows);
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        return new MemberStatsRebuildResponse(chunks.size(), members.get());
+    }
+
+    // (fromId, toId] 구간 목록: 다음 경계는 직전 경계에서 CHUNK_SIZE 번째 회원 id
+    private List<long[]> chunkBounds() {
+        List<long[]> chunks = new ArrayList<>();
+        long from = Long.MIN_VALUE;
+        while (true) {
+            List<Long> last = memberRepository.findIdsAfter(from, PageRequest.of(REBUILD_CHUNK_SIZE - 1, 1));
+            if (last.isEmpty()) {
+                chunks.add(new long[]{from, Long.MAX_VALUE});
+                return chunks;
+            }
+            chunks.add(new long[]{from, last.get(0)});
+            from = last.get(0);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.order.api;
+
+import com.example.demo.order.api.dto.OrderPageResponse;
+import com.example.demo.order.domain.OrderStatus;
+import com.example.demo.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/members/{memberId}/orders")
+@RequiredArgsConstructor
+public class MemberOrderController {
+    private final OrderService orderService;
+
+    @GetMapping
+    public OrderPageResponse list(@PathVariable Long memberId,
+                                  @RequestParam(required = false) OrderStatus status,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "20") int size)
+    {
+        return orderService.getMemberOrders(memberId, status, cursor, size);
+    }
+}
@@ -1,26 +1,78 @@
 package com.example.demo.order.api;
 
+import com.example.demo.common.etag.EntityVersions;
+import com.example.demo.common.money.Money;
+import com.example.demo.common.ratelimit.MemberRateLimiter;
+import com.example.demo.common.ratelimit.RateLimitScope;
 import com.example.demo.order.api.dto.OrderCreateRequest;
+import com.example.demo.order.api.dto.OrderPageResponse;
 import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.domain.OrderStatus;
+import com.example.demo.order.repository.OrderSearchCondition;
 import com.example.demo.order.service.OrderService;
+import com.example.demo.payment.domain.PaymentMethod;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
+    private final MemberRateLimiter rateLimiter;
+    private final EntityVersions entityVersions;
 
     @PostMapping
     public OrderResponse create(@RequestBody OrderCreateRequest req)
     {
+        rateLimiter.acquire(RateLimitScope.ORDER_CREATE, req.getMemberId());
         return orderService.create(req);
     }
 
+    // 대량 적재용이라 주문 수가 아닌 요청 수를 제한한다: 요청마다 회원당 토큰 하나 (ORDER_BATCH, 전부 아니면 전무)
+    @PostMapping("/batch")
+    public List<OrderResponse> createBatch(@RequestBody List<OrderCreateRequest> reqs)
+    {
+        if (reqs != null) {
+            Set<Long> memberIds = new LinkedHashSet<>();
+            for (OrderCreateRequest req : reqs) {
+                if (req != null && req.getMemberId() != null) memberIds.add(req.getMemberId());
+            }
+            rateLimiter.acquireEach(RateLimitScope.ORDER_BATCH, memberIds);
+        }
+        return orderService.createAll(reqs);
+    }
+
+    // 운영 검색: 상태 / 기간 [from, to) / 금액 범위 / 결제수단, 최신순 커서 페이지
+    @GetMapping("/search")
+    public OrderPageResponse search(@RequestParam(required = false) OrderStatus status,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                    @RequestParam(required = false) Money minAmount,
+                                    @RequestParam(required = false) Money maxAmount,
+                                    @RequestParam(required = false) PaymentMethod method,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "20") int size)
+    {
+        OrderSearchCondition cond = new OrderSearchCondition(status, from, to, minAmount, maxAmount, method);
+        return orderService.search(cond, cursor, size);
+    }
+
+    // 결제 대기 폴링: If-None-Match 가 현재 버전이면 304 (본문 없음)
+    // ETag 는 DTO 캐시가 아닌 현재 행에서 (캐시에 남은 옛 DTO 가 PAID 를 가리지 않도록)
     @GetMapping("/{id}")
-    public OrderResponse get(@PathVariable Long id)
+    public ResponseEntity<OrderResponse> get(@PathVariable Long id,
+                                             @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
     {
-        return orderService.getDto(id);
+        return entityVersions.conditionalGet(EntityVersions.ORDER, id, ifNoneMatch,
+                () -> orderService.getCurrentDto(id), OrderResponse::getVersion);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.demo.order.api.dto;
 
+import com.example.demo.common.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,5 +10,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class OrderCreateRequest {
     private Long memberId;
-    private double amount;
+    private Money amount;
 }
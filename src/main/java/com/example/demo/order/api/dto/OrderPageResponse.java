@@ -0,0 +1,13 @@
+package com.example.demo.order.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OrderPageResponse {
+    private List<OrderResponse> items;
+    private String nextCursor; // 마지막 페이지면 null
+}
@@ -1,14 +1,41 @@
 package com.example.demo.order.api.dto;
 
+import com.example.demo.common.id.JsonStringId;
+import com.example.demo.common.money.Money;
+import com.example.demo.order.domain.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 public class OrderResponse {
-    private Long OrderId;
+    @JsonStringId
+    private Long orderId;
+    @JsonStringId
     private Long memberId;
     private String status;
     private String orderDate;
-    private double amount;
-}
\ No newline at end of file
+    private Money amount;
+
+    // ETag 용 엔티티 버전 (본문에는 넣지 않는다), 목록 조회에서는 null
+    @JsonIgnore
+    private Long version;
+
+    public OrderResponse(Long orderId, Long memberId, String status, String orderDate, Money amount) {
+        this(orderId, memberId, status, orderDate, amount, null);
+    }
+
+    // JPQL 생성자 표현식용
+    public OrderResponse(Long orderId, Long memberId, OrderStatus status, LocalDateTime orderDate, Money amount) {
+        this(orderId, memberId, status.name(), orderDate.toString(), amount);
+    }
+
+    // JPQL 생성자 표현식용 (단건 조회: 버전 포함)
+    public OrderResponse(Long orderId, Long memberId, OrderStatus status, LocalDateTime orderDate, Money amount,
+                         Long version) {
+        this(orderId, memberId, status.name(), orderDate.toString(), amount, version);
+    }
+}
@@ -1,50 +1,65 @@
 package com.example.demo.order.domain;
 
+import com.example.demo.common.id.SnowflakeId;
+import com.example.demo.common.money.Money;
 import com.example.demo.member.domain.Member;
-import com.example.demo.payment.domain.Payment;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders") // 인덱스는 db/migration 참고
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "order") // markPaid 로 변경됨
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Order {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert 직후 키를 받아와야 해서 JDBC 배치가 꺼진다 → 애플리케이션에서 ID 발급
+    @Id @SnowflakeId
+    @Column(name = "order_id")
     private Long OrderId;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "member_id")
     private Member member;
 
-    @Column(nullable = false)
+    @Column(name = "order_date", nullable = false)
     private LocalDateTime orderDate;
 
-    @Column(nullable = false, scale = 2)
-    private BigDecimal totalAmount;
+    // bigint 최소 단위 (MoneyConverter)
+    @Column(nullable = false)
+    private Money totalAmount;
 
+    // 마이그레이션은 varchar: H2 기본 매핑(native enum)이면 ddl-auto=validate 가 타입 불일치로 실패한다
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 20)
     private OrderStatus status;
 
-    @OneToOne(mappedBy = "order", fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
-    private Payment payment;
+    // markPaid 동시 갱신 시 나중 커밋이 실패하도록 (낙관적 락)
+    @Version
+    private Long version;
 
-    public static Order create(Member member, BigDecimal amount, LocalDateTime now) {
-        if (amount == null || amount.signum() < 0) throw new IllegalArgumentException("amount must be >= 0");
+    // 결제 쪽 역방향 매핑은 두지 않는다: 역방향 1:1(mappedBy)은 프록시를 만들 수 없어
+    // LAZY 여도 주문을 읽을 때마다 payment select 가 따라온다. 연관관계는 Payment.order 한쪽만 둔다.
+
+    public static Order create(Member member, Money amount, LocalDateTime now) {
+        if (amount == null || amount.isNegative()) throw new IllegalArgumentException("amount must be >= 0");
         Order order = Order.builder()
                 .member(member)
                 .orderDate(now)
-                .totalAmount(amount.setScale(2))
+                .totalAmount(amount)
                 .status(OrderStatus.CREATED)
                 .build();
-        member.addOrder(order);
+        // member.orders 는 건드리지 않는다: 회원 프록시 초기화(select)와 전체 이력 로딩을 피하기 위함
         return order;
     }
 
@@ -52,6 +67,4 @@ public class Order {
         if (this.status == OrderStatus.PAID) return;
         this.status = OrderStatus.PAID;
     }
-
-    public void attachPayment(Payment payment) { this.payment = payment; }
 }
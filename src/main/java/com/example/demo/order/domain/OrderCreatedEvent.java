@@ -0,0 +1,27 @@
+package com.example.demo.order.domain;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxPayload;
+
+import java.time.LocalDateTime;
+
+public record OrderCreatedEvent(
+        Long orderId,
+        Long memberId,
+        Money amount,
+        LocalDateTime orderDate
+) implements OutboxPayload {
+
+    public static OrderCreatedEvent of(Order order, Long memberId) {
+        return new OrderCreatedEvent(order.getOrderId(), memberId, order.getTotalAmount(), order.getOrderDate());
+    }
+
+    @Override
+    public String aggregateType() { return "ORDER"; }
+
+    @Override
+    public Long aggregateId() { return orderId; }
+
+    @Override
+    public String eventType() { return "OrderCreated"; }
+}
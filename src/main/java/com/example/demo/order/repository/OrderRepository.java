@@ -1,7 +1,108 @@
 package com.example.demo.order.repository;
 
+import com.example.demo.order.api.dto.OrderResponse;
 import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderSearchRepository {
+
+    // 조회 전용: member 조인 없이 FK 컬럼만 읽어 응답 DTO로 바로 select (버전은 ETag 용)
+    @Query("""
+            select new com.example.demo.order.api.dto.OrderResponse(
+                o.OrderId, o.member.MemberId, o.status, o.orderDate, o.totalAmount, o.version)
+            from Order o
+            where o.OrderId = :id
+            """)
+    Optional<OrderResponse> findResponseById(@Param("id") Long id);
+
+    // 회원 주문 이력 첫 페이지 (idx_orders_member_date 를 역순으로 탐색)
+    @Query("""
+            select new com.example.demo.order.api.dto.OrderResponse(
+                o.OrderId, o.member.MemberId, o.status, o.orderDate, o.totalAmount)
+            from Order o
+            where o.member.MemberId = :memberId
+              and (:status is null or o.status = :status)
+            order by o.orderDate desc, o.OrderId desc
+            """)
+    List<OrderResponse> findMemberOrders(@Param("memberId") Long memberId,
+                                         @Param("status") OrderStatus status,
+                                         Pageable limit);
+
+    // 커서 다음 페이지: offset 없이 (orderDate, orderId) 보다 뒤쪽만 읽는다
+    @Query("""
+            select new com.example.demo.order.api.dto.OrderResponse(
+                o.OrderId, o.member.MemberId, o.status, o.orderDate, o.totalAmount)
+            from Order o
+            where o.member.MemberId = :memberId
+              and (:status is null or o.status = :status)
+              and (o.orderDate < :cursorDate or (o.orderDate = :cursorDate and o.OrderId < :cursorId))
+            order by o.orderDate desc, o.OrderId desc
+            """)
+    List<OrderResponse> findMemberOrdersAfter(@Param("memberId") Long memberId,
+                                              @Param("status") OrderStatus status,
+                                              @Param("cursorDate") LocalDateTime cursorDate,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable limit);
+
+    // 일괄 승인 청크: 승인 대상 결제의 주문 행을 결제보다 먼저 잠근다
+    // (단건 승인 flush 와 같은 orders → payment 락 순서, 엇갈리면 교착)
+    @Query(value = """
+            select o.order_id from orders o
+            where o.order_id in (
+                select p.order_id from payment p
+                where p.payment_id in (:paymentIds) and p.status = 'REQUESTED')
+            order by o.order_id
+            for update
+            """, nativeQuery = true)
+    List<Long> lockOrdersOfRequestedPayments(@Param("paymentIds") Collection<Long> paymentIds);
+
+    // 일괄 승인: 승인 대상(REQUESTED) 결제의 주문을 한 번에 PAID 로 (Order.markPaid 와 같은 규칙)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Order o
+            set o.status = com.example.demo.order.domain.OrderStatus.PAID, o.version = o.version + 1
+            where o.status <> com.example.demo.order.domain.OrderStatus.PAID
+              and o.OrderId in (
+                select p.order.OrderId from Payment p
+                where p.PaymentId in :paymentIds
+                  and p.status = com.example.demo.payment.domain.PaymentStatus.REQUESTED)
+            """)
+    int markPaidForRequestedPayments(@Param("paymentIds") Collection<Long> paymentIds);
+
+    // 일괄 승인 후 PAID 로 바뀐 주문의 새 버전 (PK 조회, 커밋 후 ETag 캐시에 기록)
+    @Query("""
+            select new com.example.demo.order.api.dto.OrderResponse(
+                o.OrderId, o.member.MemberId, o.status, o.orderDate, o.totalAmount, o.version)
+            from Order o
+            where o.OrderId in :ids
+            """)
+    List<OrderResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    // 전체 내보내기: 행 단위 스트리밍 (트랜잭션 안에서 소비하고 반드시 close)
+    @Query("""
+            select new com.example.demo.order.api.dto.OrderResponse(
+                o.OrderId, o.member.MemberId, o.status, o.orderDate, o.totalAmount)
+            from Order o
+            order by o.OrderId
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<OrderResponse> streamAll();
 }
@@ -0,0 +1,24 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.order.domain.OrderStatus;
+import com.example.demo.payment.domain.PaymentMethod;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 검색 조건. null 인 항목은 조건에서 빠진다.
+ * 기간은 [from, to), 금액은 [minAmount, maxAmount].
+ */
+public record OrderSearchCondition(
+        OrderStatus status,
+        LocalDateTime from,
+        LocalDateTime to,
+        Money minAmount,
+        Money maxAmount,
+        PaymentMethod paymentMethod
+) {
+    public boolean hasPaymentFilter() {
+        return paymentMethod != null;
+    }
+}
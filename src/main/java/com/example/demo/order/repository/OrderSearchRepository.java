@@ -0,0 +1,13 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.order.api.dto.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 조건이 요청마다 달라지는 검색은 @Query 대신 Criteria 로 필요한 조건만 붙인다
+public interface OrderSearchRepository {
+
+    // 최신순 (orderDate desc, orderId desc), cursorDate/cursorId 가 있으면 그 뒤쪽만
+    List<OrderResponse> search(OrderSearchCondition cond, LocalDateTime cursorDate, Long cursorId, int limit);
+}
@@ -0,0 +1,62 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.domain.Order;
+import com.example.demo.payment.domain.Payment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class OrderSearchRepositoryImpl implements OrderSearchRepository {
+    private final EntityManager em;
+
+    @Override
+    public List<OrderResponse> search(OrderSearchCondition cond, LocalDateTime cursorDate, Long cursorId, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<OrderResponse> query = cb.createQuery(OrderResponse.class);
+        Root<Order> o = query.from(Order.class);
+        Path<Long> orderId = o.get("OrderId");
+        Path<LocalDateTime> orderDate = o.get("orderDate");
+        Path<Money> amount = o.get("totalAmount");
+
+        List<Predicate> where = new ArrayList<>();
+        if (cond.status() != null) where.add(cb.equal(o.get("status"), cond.status()));
+        if (cond.from() != null) where.add(cb.greaterThanOrEqualTo(orderDate, cond.from()));
+        if (cond.to() != null) where.add(cb.lessThan(orderDate, cond.to()));
+        if (cond.minAmount() != null) where.add(cb.greaterThanOrEqualTo(amount, cond.minAmount()));
+        if (cond.maxAmount() != null) where.add(cb.lessThanOrEqualTo(amount, cond.maxAmount()));
+        if (cond.hasPaymentFilter()) {
+            // 결제 조건이 있을 때만 payment 를 본다: 주문당 결제는 최대 1건이라 semi-join(exists)으로 중복 없이
+            Subquery<Long> paid = query.subquery(Long.class);
+            Root<Payment> p = paid.from(Payment.class);
+            paid.select(p.get("PaymentId"))
+                    .where(cb.equal(p.get("order"), o), cb.equal(p.get("method"), cond.paymentMethod()));
+            where.add(cb.exists(paid));
+        }
+        if (cursorDate != null && cursorId != null) {
+            where.add(cb.or(
+                    cb.lessThan(orderDate, cursorDate),
+                    cb.and(cb.equal(orderDate, cursorDate), cb.lessThan(orderId, cursorId))));
+        }
+
+        query.select(cb.construct(OrderResponse.class,
+                        orderId, o.get("member").get("MemberId"), o.get("status"), orderDate, amount))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(orderDate), cb.desc(orderId));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.api.dto.OrderResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 커서: 마지막으로 내려준 행의 (orderDate, orderId).
+ * 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record OrderCursor(LocalDateTime orderDate, long orderId) {
+
+    public static OrderCursor of(OrderResponse last) {
+        return new OrderCursor(LocalDateTime.parse(last.getOrderDate()), last.getOrderId());
+    }
+
+    public String encode() {
+        String raw = orderDate + "|" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+}
@@ -1,42 +1,99 @@
 package com.example.demo.order.service;
 
+import com.example.demo.common.cache.CacheConfig;
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxWriter;
 import com.example.demo.member.domain.Member;
 import com.example.demo.order.api.dto.OrderCreateRequest;
+import com.example.demo.order.api.dto.OrderPageResponse;
 import com.example.demo.order.api.dto.OrderResponse;
 import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderCreatedEvent;
+import com.example.demo.order.domain.OrderStatus;
 import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.repository.OrderSearchCondition;
 import com.example.demo.member.service.MemberService;
+import com.example.demo.member.service.MemberStatsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
 public class OrderService {
+    static final int MAX_BATCH_SIZE = 10_000;
+    static final int MAX_PAGE_SIZE = 100;
+    // 상태 조건 없는 검색의 최대 기간
+    static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(31);
+
     private final OrderRepository orderRepository;
     private final MemberService memberService;
+    private final MemberStatsService memberStatsService;
+    private final OutboxWriter outboxWriter;
     private final Clock clock = Clock.systemDefaultZone();
 
     @Transactional
     public OrderResponse create(OrderCreateRequest req) {
-        Member member = memberService.get(req.getMemberId());
-        Order order = Order.create(member,
-                BigDecimal.valueOf(req.getAmount()),
-                LocalDateTime.now(clock));
+        // 존재 확인은 캐시된 회원 DTO로, 연관관계는 프록시로 → 회원 select 없음
+        memberService.getDto(req.getMemberId());
+        Member member = memberService.getReference(req.getMemberId());
+        Order order = Order.create(member, req.getAmount(), LocalDateTime.now(clock));
         Order saved = orderRepository.save(order);
+        memberStatsService.add(req.getMemberId(), 1, 0, Money.ZERO);
+        outboxWriter.append(OrderCreatedEvent.of(saved, req.getMemberId()));
 
-        return new OrderResponse(
-                saved.getOrderId(),
-                saved.getMember().getMemberId(),
-                saved.getStatus().name(),
-                saved.getOrderDate().toString(),
-                saved.getTotalAmount().doubleValue()
-        );
+        return toRes(saved);
+    }
+
+    // 대량 주문: 회원은 한 번에 조회하고, insert는 한 트랜잭션에서 JDBC 배치로 처리
+    @Transactional
+    public List<OrderResponse> createAll(List<OrderCreateRequest> reqs) {
+        if (reqs == null || reqs.isEmpty()) throw new IllegalArgumentException("orders required");
+        if (reqs.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("too many orders (max " + MAX_BATCH_SIZE + ")");
+
+        Set<Long> memberIds = new HashSet<>();
+        for (OrderCreateRequest req : reqs) {
+            if (req.getMemberId() == null) throw new IllegalArgumentException("memberId required");
+            memberIds.add(req.getMemberId());
+        }
+        Map<Long, Member> members = memberService.getAll(memberIds);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Order> orders = new ArrayList<>(reqs.size());
+        Map<Long, Long> countByMember = new HashMap<>();
+        for (OrderCreateRequest req : reqs) {
+            orders.add(Order.create(members.get(req.getMemberId()), req.getAmount(), now));
+            countByMember.merge(req.getMemberId(), 1L, Long::sum);
+        }
+        memberStatsService.addOrders(countByMember); // 회원당 UPDATE 한 번
+
+        List<Order> saved = orderRepository.saveAll(orders);
+        List<OrderCreatedEvent> events = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            events.add(OrderCreatedEvent.of(saved.get(i), reqs.get(i).getMemberId()));
+        }
+        outboxWriter.appendAll(events); // 주문 insert 와 같은 JDBC 배치 방식
+
+        return saved.stream()
+                .map(OrderService::toRes)
+                .toList();
     }
 
     public Order get(Long id) {
@@ -44,14 +101,77 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("order not found"));
     }
 
+    @Cacheable(cacheNames = CacheConfig.ORDERS, key = "#id")
     public OrderResponse getDto(Long id) {
-        Order o = get(id);
+        return getCurrentDto(id);
+    }
+
+    // 조건부 GET(ETag) 용: DTO 캐시를 거치지 않는다.
+    // 커밋 전에 읽힌 옛 DTO 가 비운 뒤에 다시 캐시될 수 있어, 그 버전을 ETag 로 쓰면 폴링이 TTL(10분) 동안 304 를 받는다
+    public OrderResponse getCurrentDto(Long id) {
+        return orderRepository.findResponseById(id)
+                .orElseThrow(() -> new IllegalArgumentException("order not found"));
+    }
+
+    // 회원 주문 이력: keyset 페이지네이션이라 페이지 깊이와 무관하게 인덱스 범위만 읽는다
+    public OrderPageResponse getMemberOrders(Long memberId, OrderStatus status, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        memberService.getDto(memberId);
+
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인용 +1
+        List<OrderResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderRepository.findMemberOrders(memberId, status, limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            rows = orderRepository.findMemberOrdersAfter(memberId, status, after.orderDate(), after.orderId(), limit);
+        }
+
+        return toPage(rows, size);
+    }
+
+    // 주문 검색: 조건 조합마다 다른 쿼리지만 정렬/커서는 회원 이력과 같은 keyset
+    // 상태 조건만 있을 때를 빼면 기간(최대 MAX_SEARCH_WINDOW)이 필수: 금액/결제수단 조건은 인덱스 범위를 줄이지 못해
+    // 상태가 있어도 그 상태 전체를 훑을 수 있다 → 읽는 범위는 항상 기간이 정한다
+    public OrderPageResponse search(OrderSearchCondition cond, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        if (cond.from() != null && cond.to() != null && !cond.from().isBefore(cond.to()))
+            throw new IllegalArgumentException("from must be before to");
+        if (cond.minAmount() != null && cond.maxAmount() != null && cond.minAmount().compareTo(cond.maxAmount()) > 0)
+            throw new IllegalArgumentException("minAmount must be <= maxAmount");
+        boolean filtered = cond.minAmount() != null || cond.maxAmount() != null || cond.method() != null;
+        if (cond.status() == null || filtered) {
+            if (cond.from() == null || cond.to() == null)
+                throw new IllegalArgumentException("from and to are required unless searching by status alone");
+            if (Duration.between(cond.from(), cond.to()).compareTo(MAX_SEARCH_WINDOW) > 0)
+                throw new IllegalArgumentException("search window must be at most " + MAX_SEARCH_WINDOW.toDays() + " days");
+        }
+
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        List<OrderResponse> rows = orderRepository.search(cond,
+                after == null ? null : after.orderDate(),
+                after == null ? null : after.orderId(),
+                size + 1);
+        return toPage(rows, size);
+    }
+
+    // size + 1 건을 읽었으면 다음 페이지가 있다
+    private static OrderPageResponse toPage(List<OrderResponse> rows, int size) {
+        if (rows.size() <= size) return new OrderPageResponse(rows, null);
+        List<OrderResponse> page = rows.subList(0, size);
+        return new OrderPageResponse(page, OrderCursor.of(page.get(size - 1)).encode());
+    }
+
+    public static OrderResponse toRes(Order o) {
         return new OrderResponse(
                 o.getOrderId(),
                 o.getMember().getMemberId(),
                 o.getStatus().name(),
                 o.getOrderDate().toString(),
-                o.getTotalAmount().doubleValue()
+                o.getTotalAmount(),
+                o.getVersion()
         );
     }
 }
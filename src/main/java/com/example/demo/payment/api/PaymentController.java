@@ -1,31 +1,78 @@
 package com.example.demo.payment.api;
 
 
+import com.example.demo.common.etag.EntityVersions;
+import com.example.demo.common.idempotency.IdempotencyStore;
+import com.example.demo.common.ratelimit.MemberRateLimiter;
+import com.example.demo.common.ratelimit.RateLimitScope;
+import com.example.demo.order.service.OrderService;
 import com.example.demo.payment.api.dto.PaymentApproveRequest;
+import com.example.demo.payment.api.dto.PaymentBatchApproveRequest;
+import com.example.demo.payment.api.dto.PaymentBatchApproveResponse;
 import com.example.demo.payment.api.dto.PaymentCreateRequest;
 import com.example.demo.payment.api.dto.PaymentResponse;
+import com.example.demo.payment.service.PaymentBatchService;
 import com.example.demo.payment.service.PaymentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.function.Supplier;
+
 @RestController
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
 public class PaymentController {
     private final PaymentService paymentService;
+    private final PaymentBatchService paymentBatchService;
+    private final IdempotencyStore idempotencyStore;
+    private final OrderService orderService;
+    private final MemberRateLimiter rateLimiter;
+    private final EntityVersions entityVersions;
 
+    // 클라이언트 재시도: 같은 Idempotency-Key 면 첫 응답을 그대로 돌려준다
+    // 요청 제한은 재생이 아닐 때만 (재시도가 429 를 받거나 주문 조회를 다시 하지 않도록)
     @PostMapping
-    public PaymentResponse request(@RequestBody PaymentCreateRequest req) {
-        return paymentService.request(req);
+    public ResponseEntity<PaymentResponse> request(@RequestBody PaymentCreateRequest req,
+                                                   @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String key) {
+        String fingerprint = req.getOrderId() + "|" + req.getAmount() + "|" + req.getMethod();
+        return idempotent("payments.request", key, fingerprint, () -> {
+            // 회원은 캐시된 주문 DTO 로 찾는다 (주문이 없으면 여기서 404)
+            if (req.getOrderId() != null)
+                rateLimiter.acquire(RateLimitScope.PAYMENT_REQUEST, orderService.getDto(req.getOrderId()).getMemberId());
+            return paymentService.request(req);
+        });
     }
 
     @PostMapping("/{id}/approve")
-    public PaymentResponse approve(@PathVariable long id) {
-        return paymentService.approve(new PaymentApproveRequest(id));
+    public ResponseEntity<PaymentResponse> approve(@PathVariable long id,
+                                                   @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String key) {
+        return idempotent("payments.approve", key, String.valueOf(id),
+                () -> paymentService.approve(new PaymentApproveRequest(id)));
+    }
+
+    // 정산용 일괄 승인: ID 목록 또는 필터, 결과는 ID 별 APPROVED / ALREADY_PROCESSED / NOT_FOUND
+    @PostMapping("/approve-batch")
+    public PaymentBatchApproveResponse approveBatch(@RequestBody PaymentBatchApproveRequest req) {
+        return paymentBatchService.approveAll(req);
     }
 
+    // 승인 대기 폴링: If-None-Match 가 현재 버전이면 304 (본문 없음)
     @GetMapping("/{id}")
-    public PaymentResponse get(@PathVariable long id) {
-        return paymentService.getDto(id);
+    public ResponseEntity<PaymentResponse> get(@PathVariable long id,
+                                               @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return entityVersions.conditionalGet(EntityVersions.PAYMENT, id, ifNoneMatch,
+                () -> paymentService.getDto(id), PaymentResponse::getVersion);
+    }
+
+    private ResponseEntity<PaymentResponse> idempotent(String scope, String key, String fingerprint,
+                                                       Supplier<PaymentResponse> action) {
+        if (key == null) return ResponseEntity.ok(action.get());
+
+        IdempotencyStore.Outcome<PaymentResponse> outcome = idempotencyStore.execute(scope, key, fingerprint, action);
+        return ResponseEntity.ok()
+                .header(IdempotencyStore.IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                .body(outcome.response());
     }
 }
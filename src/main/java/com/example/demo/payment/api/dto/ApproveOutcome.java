@@ -0,0 +1,5 @@
+package com.example.demo.payment.api.dto;
+
+public enum ApproveOutcome {
+    APPROVED, ALREADY_PROCESSED, NOT_FOUND
+}
@@ -0,0 +1,21 @@
+package com.example.demo.payment.api.dto;
+
+import com.example.demo.payment.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * paymentIds 가 있으면 그 결제들만, 없으면 필터(method, orderedBefore)에 맞는 REQUESTED 결제 전체를 승인한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentBatchApproveRequest {
+    private List<Long> paymentIds;
+    private PaymentMethod method;
+    private LocalDateTime orderedBefore;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.payment.api.dto;
+
+import com.example.demo.common.id.JsonStringId;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PaymentBatchApproveResponse {
+    private int approved;
+    private int alreadyProcessed;
+    private int notFound;
+    private List<Result> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        @JsonStringId
+        private Long paymentId;
+        private ApproveOutcome outcome;
+    }
+}
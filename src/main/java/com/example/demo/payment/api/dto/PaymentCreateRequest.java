@@ -1,5 +1,6 @@
 package com.example.demo.payment.api.dto;
 
+import com.example.demo.common.money.Money;
 import com.example.demo.payment.domain.PaymentMethod;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,6 +11,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PaymentCreateRequest {
     private Long orderId;
-    private double amount;
+    private Money amount;
     private PaymentMethod method;
 }
\ No newline at end of file
@@ -1,15 +1,45 @@
 package com.example.demo.payment.api.dto;
 
+import com.example.demo.common.id.JsonStringId;
+import com.example.demo.common.money.Money;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.domain.PaymentStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 public class PaymentResponse {
+    @JsonStringId
     private Long paymentId;
+    @JsonStringId
     private Long orderId;
     private String status;
     private String method;
-    private double amount;
+    private Money amount;
     private String approvedAt;
+
+    // ETag 용 엔티티 버전 (본문에는 넣지 않는다), 목록 조회에서는 null
+    @JsonIgnore
+    private Long version;
+
+    public PaymentResponse(Long paymentId, Long orderId, String status, String method, Money amount, String approvedAt) {
+        this(paymentId, orderId, status, method, amount, approvedAt, null);
+    }
+
+    // JPQL 생성자 표현식용
+    public PaymentResponse(Long paymentId, Long orderId, PaymentStatus status, PaymentMethod method,
+                           Money amount, LocalDateTime approvedAt) {
+        this(paymentId, orderId, status, method, amount, approvedAt, null);
+    }
+
+    // JPQL 생성자 표현식용 (단건 조회: 버전 포함)
+    public PaymentResponse(Long paymentId, Long orderId, PaymentStatus status, PaymentMethod method,
+                           Money amount, LocalDateTime approvedAt, Long version) {
+        this(paymentId, orderId, status.name(), method.name(), amount,
+                approvedAt == null ? null : approvedAt.toString(), version);
+    }
 }
@@ -1,57 +1,70 @@
 package com.example.demo.payment.domain;
 
 
+import com.example.demo.common.StateConflictException;
+import com.example.demo.common.id.SnowflakeId;
+import com.example.demo.common.money.Money;
 import com.example.demo.order.domain.Order;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
 @Entity
 @Table(name = "payment")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payment") // approve 로 변경됨
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Payment {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long PaymentId;
 
     @OneToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "order_id", unique = true)
     private Order order;
 
-    @Column(nullable = false, precision = 15, scale = 2)
-    private BigDecimal amount;
+    // bigint 최소 단위 (MoneyConverter)
+    @Column(nullable = false)
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 30)
     private PaymentMethod method;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 20)
     private PaymentStatus status;
     private LocalDateTime approvedAt;
 
-    public static Payment request(Order order, BigDecimal amount, PaymentMethod method) {
+    // 같은 결제를 동시에 승인하면 한쪽만 커밋된다 (낙관적 락)
+    @Version
+    private Long version;
+
+    public static Payment request(Order order, Money amount, PaymentMethod method) {
         if (order == null) throw new IllegalArgumentException("order required");
-        if (amount == null || amount.setScale(2).compareTo(order.getTotalAmount()) != 0)
+        if (amount == null || !amount.equals(order.getTotalAmount()))
             throw new IllegalArgumentException("payment amount must equal order amount");
-        var p = Payment.builder()
+        return Payment.builder()
                 .order(order)
-                .amount(amount.setScale(2))
+                .amount(amount)
                 .method(method)
                 .status(PaymentStatus.REQUESTED)
                 .build();
-        order.attachPayment(p);
-        return p;
     }
 
     public void approve(LocalDateTime now) {
-        if (this.status != PaymentStatus.REQUESTED) throw new IllegalStateException("already processed");
+        if (this.status != PaymentStatus.REQUESTED) throw new StateConflictException("already processed");
         this.status = PaymentStatus.APPROVED;
         this.approvedAt = now;
         this.order.markPaid();
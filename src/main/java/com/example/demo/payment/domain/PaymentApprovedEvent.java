@@ -0,0 +1,30 @@
+package com.example.demo.payment.domain;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxPayload;
+
+import java.time.LocalDateTime;
+
+public record PaymentApprovedEvent(
+        Long paymentId,
+        Long orderId,
+        Money amount,
+        PaymentMethod method,
+        LocalDateTime approvedAt
+) implements OutboxPayload {
+
+    public static PaymentApprovedEvent of(Payment payment) {
+        return new PaymentApprovedEvent(payment.getPaymentId(), payment.getOrder().getOrderId(),
+                payment.getAmount(), payment.getMethod(), payment.getApprovedAt());
+    }
+
+    // 주문 기준으로 묶는다: 같은 주문의 OrderCreated 가 백오프 / parked 면 승인 이벤트도 그 뒤에 기다린다
+    @Override
+    public String aggregateType() { return "ORDER"; }
+
+    @Override
+    public Long aggregateId() { return orderId; }
+
+    @Override
+    public String eventType() { return "PaymentApproved"; }
+}
@@ -1,7 +1,90 @@
 package com.example.demo.payment.repository;
 
+import com.example.demo.payment.api.dto.PaymentResponse;
 import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentMethod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    // 조회 전용: orders 조인 없이 FK 컬럼만 읽어 응답 DTO로 바로 select (버전은 ETag 용)
+    @Query("""
+            select new com.example.demo.payment.api.dto.PaymentResponse(
+                p.PaymentId, p.order.OrderId, p.status, p.method, p.amount, p.approvedAt, p.version)
+            from Payment p
+            where p.PaymentId = :id
+            """)
+    Optional<PaymentResponse> findResponseById(@Param("id") Long id);
+
+    // 일괄 승인 청크: 아직 REQUESTED 인 결제 행을 잠그고 그 id 만 돌려준다.
+    // 이 목록만 승인하고 결과 / 통계 / 매출 / 이벤트도 이 목록으로 정한다 (커밋까지 다른 승인이 끼어들 수 없다)
+    @Query(value = """
+            select p.payment_id from payment p
+            where p.payment_id in (:ids) and p.status = 'REQUESTED'
+            order by p.payment_id
+            for update
+            """, nativeQuery = true)
+    List<Long> lockRequestedIds(@Param("ids") Collection<Long> ids);
+
+    // 일괄 승인: REQUESTED 만 APPROVED 로 (Payment.approve 와 같은 규칙), approvedAt 은 이번 배치 시각
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Payment p
+            set p.status = com.example.demo.payment.domain.PaymentStatus.APPROVED,
+                p.approvedAt = :now,
+                p.version = p.version + 1
+            where p.PaymentId in :ids
+              and p.status = com.example.demo.payment.domain.PaymentStatus.REQUESTED
+            """)
+    int approveRequested(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 일괄 승인 결과용: 벌크 UPDATE 로 올라간 버전까지 읽어 커밋 후 ETag 캐시에 기록한다
+    @Query("""
+            select new com.example.demo.payment.api.dto.PaymentResponse(
+                p.PaymentId, p.order.OrderId, p.status, p.method, p.amount, p.approvedAt, p.version)
+            from Payment p
+            where p.PaymentId in :ids
+            """)
+    List<PaymentResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    // 필터 일괄 승인 대상: PK keyset 으로 청크 단위 조회
+    @Query("""
+            select p.PaymentId from Payment p
+            where p.status = com.example.demo.payment.domain.PaymentStatus.REQUESTED
+              and (:method is null or p.method = :method)
+              and (:orderedBefore is null or p.order.orderDate < :orderedBefore)
+              and p.PaymentId > :afterId
+            order by p.PaymentId
+            """)
+    List<Long> findRequestedIds(@Param("method") PaymentMethod method,
+                                @Param("orderedBefore") LocalDateTime orderedBefore,
+                                @Param("afterId") long afterId,
+                                Pageable limit);
+
+    // 전체 내보내기: 행 단위 스트리밍 (트랜잭션 안에서 소비하고 반드시 close)
+    @Query("""
+            select new com.example.demo.payment.api.dto.PaymentResponse(
+                p.PaymentId, p.order.OrderId, p.status, p.method, p.amount, p.approvedAt)
+            from Payment p
+            order by p.PaymentId
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<PaymentResponse> streamAll();
 }
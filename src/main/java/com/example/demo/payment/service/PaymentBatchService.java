@@ -0,0 +1,181 @@
+package com.example.demo.payment.service;
+
+import com.example.demo.common.cache.CacheConfig;
+import com.example.demo.common.etag.EntityVersions;
+import com.example.demo.common.outbox.OutboxWriter;
+import com.example.demo.member.service.MemberStatsService;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.payment.api.dto.ApproveOutcome;
+import com.example.demo.payment.api.dto.PaymentBatchApproveRequest;
+import com.example.demo.payment.api.dto.PaymentBatchApproveResponse;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import com.example.demo.payment.domain.PaymentApprovedEvent;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.report.service.RevenueService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정산용 일괄 승인. 결제를 한 건씩 로딩하지 않고 청크마다 한 트랜잭션에서
+ * 아직 REQUESTED 인 결제를 select ... for update 로 잠그고, 잠근 id 만 orders → payment 순서로
+ * set-based UPDATE 한다 (규칙은 Payment.approve 와 같다). 결과 / 통계 / 매출 / 이벤트도 그 id 목록으로 정한다.
+ * 청크 단위로 커밋되므로 중간에 실패하면 앞선 청크는 승인된 채로 남는다.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class PaymentBatchService {
+    static final int CHUNK_SIZE = 1_000;
+    static final int MAX_IDS = 100_000;
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final MemberStatsService memberStatsService;
+    private final RevenueService revenueService;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate tx;
+    private final CacheManager cacheManager;
+    private final EntityVersions entityVersions;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public PaymentBatchService(PaymentRepository paymentRepository,
+                               OrderRepository orderRepository,
+                               MemberStatsService memberStatsService,
+                               RevenueService revenueService,
+                               OutboxWriter outboxWriter,
+                               PlatformTransactionManager txManager,
+                               CacheManager cacheManager,
+                               EntityVersions entityVersions) {
+        this.paymentRepository = paymentRepository;
+        this.orderRepository = orderRepository;
+        this.memberStatsService = memberStatsService;
+        this.revenueService = revenueService;
+        this.outboxWriter = outboxWriter;
+        this.tx = new TransactionTemplate(txManager);
+        this.cacheManager = cacheManager;
+        this.entityVersions = entityVersions;
+    }
+
+    public PaymentBatchApproveResponse approveAll(PaymentBatchApproveRequest req) {
+        if (req.getPaymentIds() != null) return approveIds(req.getPaymentIds());
+        return approveMatching(req);
+    }
+
+    private PaymentBatchApproveResponse approveIds(List<Long> paymentIds) {
+        if (paymentIds.isEmpty()) throw new IllegalArgumentException("paymentIds required");
+        if (paymentIds.size() > MAX_IDS) throw new IllegalArgumentException("too many paymentIds (max " + MAX_IDS + ")");
+        if (paymentIds.contains(null)) throw new IllegalArgumentException("paymentId required");
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(paymentIds)); // 중복 제거, 순서 유지
+        List<PaymentBatchApproveResponse.Result> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            results.addAll(approveChunk(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()))));
+        }
+        return summarize(results);
+    }
+
+    // 필터 모드: REQUESTED 결제를 PK 순서로 청크씩 잘라 승인
+    private PaymentBatchApproveResponse approveMatching(PaymentBatchApproveRequest req) {
+        List<PaymentBatchApproveResponse.Result> results = new ArrayList<>();
+        long afterId = Long.MIN_VALUE;
+        while (true) {
+            long after = afterId;
+            List<Long> chunk = paymentRepository.findRequestedIds(
+                    req.getMethod(), req.getOrderedBefore(), after, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) break;
+            results.addAll(approveChunk(chunk));
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        return summarize(results);
+    }
+
+    private List<PaymentBatchApproveResponse.Result> approveChunk(List<Long> ids) {
+        // 이벤트의 approvedAt 이 저장값과 같도록 DB 정밀도(마이크로초)에 맞춰 잘라 둔다
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+
+        ChunkResult chunk = tx.execute(s -> {
+            // 주문 → 결제 순서로 잠근 뒤, 잠근 REQUESTED 결제만 승인한다
+            orderRepository.lockOrdersOfRequestedPayments(ids);
+            List<Long> approved = paymentRepository.lockRequestedIds(ids);
+            if (!approved.isEmpty()) {
+                orderRepository.markPaidForRequestedPayments(approved);
+                paymentRepository.approveRequested(approved, now);
+                memberStatsService.addApprovedPayments(approved);
+                revenueService.addApprovedPayments(approved, now);
+            }
+            Map<Long, PaymentResponse> rows = paymentRepository.findResponsesByIds(ids).stream()
+                    .collect(Collectors.toMap(PaymentResponse::getPaymentId, Function.identity()));
+            // 이번 청크가 승인한 결제만 이벤트로 (같은 트랜잭션)
+            List<PaymentApprovedEvent> events = new ArrayList<>(approved.size());
+            List<Long> paidOrderIds = new ArrayList<>(approved.size());
+            for (Long id : approved) {
+                PaymentResponse row = rows.get(id);
+                events.add(new PaymentApprovedEvent(id, row.getOrderId(), row.getAmount(),
+                        PaymentMethod.valueOf(row.getMethod()), now));
+                entityVersions.updateAfterCommit(EntityVersions.PAYMENT, id, row.getVersion());
+                paidOrderIds.add(row.getOrderId());
+            }
+            if (!events.isEmpty()) outboxWriter.appendAll(events);
+            // 올라간 버전을 커밋 후 ETag 캐시에 기록한다. 지우기만 하면 커밋 전에 옛 DTO 를 읽은 GET 이
+            // 옛 버전을 다시 넣고, 비교할 새 버전이 없어 TTL 동안 304 가 나간다
+            if (!paidOrderIds.isEmpty()) {
+                for (OrderResponse order : orderRepository.findResponsesByIds(paidOrderIds)) {
+                    entityVersions.updateAfterCommit(EntityVersions.ORDER, order.getOrderId(), order.getVersion());
+                }
+            }
+            return new ChunkResult(new HashSet<>(approved), rows);
+        });
+
+        // 커밋 후 주문 DTO 캐시 무효화 (2차 캐시 리전은 벌크 UPDATE 시 Hibernate 가 비운다)
+        Cache orders = cacheManager.getCache(CacheConfig.ORDERS);
+        List<PaymentBatchApproveResponse.Result> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PaymentResponse row = chunk.rows().get(id);
+            ApproveOutcome outcome;
+            if (chunk.approved().contains(id)) {
+                outcome = ApproveOutcome.APPROVED;
+                if (orders != null) orders.evict(row.getOrderId());
+            } else if (row != null) {
+                outcome = ApproveOutcome.ALREADY_PROCESSED;
+            } else {
+                outcome = ApproveOutcome.NOT_FOUND;
+            }
+            results.add(new PaymentBatchApproveResponse.Result(id, outcome));
+        }
+        return results;
+    }
+
+    private static PaymentBatchApproveResponse summarize(List<PaymentBatchApproveResponse.Result> results) {
+        int approved = 0, already = 0, notFound = 0;
+        for (PaymentBatchApproveResponse.Result r : results) {
+            switch (r.getOutcome()) {
+                case APPROVED -> approved++;
+                case ALREADY_PROCESSED -> already++;
+                case NOT_FOUND -> notFound++;
+            }
+        }
+        return new PaymentBatchApproveResponse(approved, already, notFound, results);
+    }
+
+    // approved: 이번 청크가 잠그고 승인한 결제 id, rows: 요청 id 중 존재하는 결제
+    private record ChunkResult(Set<Long> approved, Map<Long, PaymentResponse> rows) {
+    }
+}
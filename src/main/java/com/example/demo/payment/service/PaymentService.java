@@ -1,60 +1,107 @@
 package com.example.demo.payment.service;
 
+import com.example.demo.common.cache.CacheConfig;
+import com.example.demo.common.etag.EntityVersions;
+import com.example.demo.common.outbox.OutboxWriter;
+import com.example.demo.member.service.MemberStatsService;
 import com.example.demo.order.domain.Order;
 import com.example.demo.payment.api.dto.PaymentApproveRequest;
 import com.example.demo.payment.api.dto.PaymentCreateRequest;
 import com.example.demo.payment.api.dto.PaymentResponse;
 import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentApprovedEvent;
 import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.report.service.RevenueService;
 import com.example.demo.order.service.OrderService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
 public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final OrderService orderService;
+    private final MemberStatsService memberStatsService;
+    private final RevenueService revenueService;
+    private final OutboxWriter outboxWriter;
+    private final EntityVersions entityVersions;
+    private final CacheManager cacheManager;
     private final Clock clock = Clock.systemDefaultZone();
 
     @Transactional
     public PaymentResponse request(PaymentCreateRequest req) {
         Order order = orderService.get(req.getOrderId());
-        Payment payment = Payment.request(order,
-                BigDecimal.valueOf(req.getAmount()),
-                req.getMethod());
+        Payment payment = Payment.request(order, req.getAmount(), req.getMethod());
         Payment saved = paymentRepository.save(payment);
         return toRes(saved);
     }
 
+    // 동시 승인으로 버전 충돌이 나면 새 트랜잭션에서 다시 읽는다 → 이미 승인됐으면 "already processed"
+    @Retryable(retryFor = ConcurrencyFailureException.class, maxAttempts = 3,
+            backoff = @Backoff(delay = 10, multiplier = 2, random = true))
     @Transactional
     public PaymentResponse approve(PaymentApproveRequest req) {
         Payment payment = paymentRepository.findById(req.getPaymentId())
                 .orElseThrow(() -> new IllegalArgumentException("payment not found"));
         payment.approve(LocalDateTime.now(clock));
+        // 결제/주문 UPDATE 를 먼저 내보내 락 순서를 일괄 승인(orders → payment → member_stats)과 맞춘다
+        paymentRepository.flush();
+        memberStatsService.add(payment.getOrder().getMember().getMemberId(), 0, 1, payment.getAmount());
+        revenueService.addApproved(payment.getApprovedAt(), payment.getMethod(), payment.getAmount());
+        outboxWriter.append(PaymentApprovedEvent.of(payment));
+        // flush 로 올라간 버전을 커밋 후 ETag 캐시에 반영 → 폴링 중인 클라이언트가 바로 200 을 받는다
+        entityVersions.updateAfterCommit(EntityVersions.PAYMENT, payment.getPaymentId(), payment.getVersion());
+        entityVersions.updateAfterCommit(EntityVersions.ORDER, payment.getOrder().getOrderId(), payment.getOrder().getVersion());
+        evictOrderAfterCommit(payment.getOrder().getOrderId());
         return toRes(payment);
     }
 
+    // Order.markPaid 로 주문 상태가 바뀌므로 주문 DTO 캐시를 비운다.
+    // @CacheEvict 는 트랜잭션 advisor 와 순서가 보장되지 않아 커밋 전에 비울 수 있고,
+    // 그 사이 동시 GET 이 CREATED 주문을 다시 캐시하면 TTL(10분) 동안 남는다 → 커밋 후에 비운다
+    private void evictOrderAfterCommit(Long orderId) {
+        Cache orders = cacheManager.getCache(CacheConfig.ORDERS);
+        if (orders == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orders.evict(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orders.evict(orderId);
+            }
+        });
+    }
+
     public PaymentResponse getDto(Long id) {
-        Payment p = paymentRepository.findById(id)
+        return paymentRepository.findResponseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("payment not found"));
-        return toRes(p);
     }
 
-    private static PaymentResponse toRes(Payment p) {
+    public static PaymentResponse toRes(Payment p) {
         return new PaymentResponse(
                 p.getPaymentId(),
                 p.getOrder().getOrderId(),
                 p.getStatus().name(),
                 p.getMethod().name(),
-                p.getAmount().doubleValue(),
-                p.getApprovedAt() == null ? null : p.getApprovedAt().toString()
+                p.getAmount(),
+                p.getApprovedAt() == null ? null : p.getApprovedAt().toString(),
+                p.getVersion()
         );
     }
 }
@@ -0,0 +1,37 @@
+package com.example.demo.report.api;
+
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.report.api.dto.RevenueBackfillResponse;
+import com.example.demo.report.api.dto.RevenueReportResponse;
+import com.example.demo.report.service.RevenueBackfillService;
+import com.example.demo.report.service.RevenueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    private final RevenueService revenueService;
+    private final RevenueBackfillService revenueBackfillService;
+
+    // 일별 x 결제수단 승인 매출 (from, to 포함), 롤업 테이블만 읽는다
+    @GetMapping("/revenue")
+    public RevenueReportResponse revenue(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                         @RequestParam(required = false) PaymentMethod method)
+    {
+        return revenueService.report(from, to, method);
+    }
+
+    // 운영용: 기간 롤업을 payment 에서 다시 집계
+    @PostMapping("/revenue/backfill")
+    public RevenueBackfillResponse backfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to)
+    {
+        return revenueBackfillService.backfill(from, to);
+    }
+}
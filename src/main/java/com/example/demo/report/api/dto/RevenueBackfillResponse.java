@@ -0,0 +1,11 @@
+package com.example.demo.report.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RevenueBackfillResponse {
+    private int days;
+    private long rows;
+}
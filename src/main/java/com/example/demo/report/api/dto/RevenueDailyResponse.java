@@ -0,0 +1,22 @@
+package com.example.demo.report.api.dto;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.payment.domain.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class RevenueDailyResponse {
+    private String date;
+    private String method;
+    private long approvedCount;
+    private Money amount;
+
+    // JPQL 생성자 표현식용 (amount 는 최소 단위)
+    public RevenueDailyResponse(LocalDate date, PaymentMethod method, long approvedCount, long amountMinor) {
+        this(date.toString(), method.name(), approvedCount, Money.ofMinor(amountMinor));
+    }
+}
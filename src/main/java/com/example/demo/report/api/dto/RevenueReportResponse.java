@@ -0,0 +1,17 @@
+package com.example.demo.report.api.dto;
+
+import com.example.demo.common.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RevenueReportResponse {
+    private String from;
+    private String to;
+    private long approvedCount;
+    private Money amount;
+    private List<RevenueDailyResponse> days; // 승인이 있는 (일, 결제수단) 만
+}
@@ -0,0 +1,50 @@
+package com.example.demo.report.domain;
+
+import com.example.demo.payment.domain.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 x 결제수단 승인 매출 롤업. (날짜, 결제수단) 마다 slot 개의 행으로 나눠 쌓고 리포트에서 합산한다.
+ * 값은 RevenueDailyRepository 의 증분/재집계 MERGE 로만 바뀐다 (MemberStats 와 같은 방식).
+ */
+@Entity
+@Table(name = "revenue_daily")
+@IdClass(RevenueDaily.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueDaily {
+
+    @Id
+    private LocalDate revenueDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 30)
+    private PaymentMethod method;
+
+    // 동시 승인이 같은 행 락에 줄 서지 않도록 나눈 칸 (0 ~ RevenueService.SLOTS - 1)
+    @Id
+    private int slot;
+
+    private long approvedCount;
+
+    // Money.minor 누적
+    private long amount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate revenueDate;
+        private PaymentMethod method;
+        private int slot;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.report.repository;
+
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.report.api.dto.RevenueDailyResponse;
+import com.example.demo.report.domain.RevenueDaily;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 롤업 행은 읽고-고쳐-쓰지 않고 "col = col + :delta" 로만 갱신한다 (MemberStatsRepository 와 같음).
+ * 증분은 호출 쪽 트랜잭션 안의 MERGE 한 번: 행이 없으면 만들고, 있으면 더한다.
+ * 같은 (날짜, 결제수단) 도 slot 별로 다른 행이라 동시 승인이 한 행 락에 줄 서지 않는다 → 리포트는 slot 을 합산.
+ */
+public interface RevenueDailyRepository extends JpaRepository<RevenueDaily, RevenueDaily.Key> {
+
+    // 대시보드: 롤업 PK 범위만 읽는다 (payment / orders 는 보지 않음)
+    @Query("""
+            select new com.example.demo.report.api.dto.RevenueDailyResponse(
+                r.revenueDate, r.method, sum(r.approvedCount), sum(r.amount))
+            from RevenueDaily r
+            where r.revenueDate between :from and :to
+              and (:method is null or r.method = :method)
+            group by r.revenueDate, r.method
+            having sum(r.approvedCount) > 0
+            order by r.revenueDate, r.method
+            """)
+    List<RevenueDailyResponse> findReport(@Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("method") PaymentMethod method);
+
+    // 단건 승인: (날짜, 결제수단, slot) 한 행 upsert. method 는 enum 이름
+    @Modifying
+    @Query(value = """
+            merge into revenue_daily r
+            using (select cast(:date as date) as revenue_date, cast(:method as varchar(30)) as method,
+                          cast(:slot as int) as slot) v
+            on r.revenue_date = v.revenue_date and r.method = v.method and r.slot = v.slot
+            when matched then update
+                set approved_count = r.approved_count + :count, amount = r.amount + :amount
+            when not matched then insert (revenue_date, method, slot, approved_count, amount)
+                values (v.revenue_date, v.method, v.slot, :count, :amount)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revenue_daily"))
+    int increment(@Param("date") LocalDate date,
+                  @Param("method") String method,
+                  @Param("slot") int slot,
+                  @Param("count") long count,
+                  @Param("amount") long amount);
+
+    // 일괄 승인 청크: 이번 청크가 잠그고 승인한 결제 id 를 결제수단별로 합산해 결제수단마다 한 행 upsert
+    @Modifying
+    @Query(value = """
+            merge into revenue_daily r
+            using (select cast(:date as date) as revenue_date, p.method, cast(:slot as int) as slot,
+                          count(*) as approved_count, sum(p.amount) as amount
+                   from payment p
+                   where p.payment_id in (:paymentIds)
+                   group by p.method
+                   order by p.method) v
+            on r.revenue_date = v.revenue_date and r.method = v.method and r.slot = v.slot
+            when matched then update
+                set approved_count = r.approved_count + v.approved_count, amount = r.amount + v.amount
+            when not matched then insert (revenue_date, method, slot, approved_count, amount)
+                values (v.revenue_date, v.method, v.slot, v.approved_count, v.amount)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revenue_daily"))
+    int incrementForApproved(@Param("paymentIds") Collection<Long> paymentIds,
+                             @Param("date") LocalDate date,
+                             @Param("slot") int slot);
+
+    // 백필 1/2: 그날의 모든 slot 을 0 으로 (recompute 와 같은 트랜잭션)
+    @Modifying
+    @Query(value = """
+            update revenue_daily set approved_count = 0, amount = 0
+            where revenue_date = :date
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revenue_daily"))
+    int resetDay(@Param("date") LocalDate date);
+
+    // 백필 2/2: 하루치를 payment 에서 다시 집계해 slot 0 에 쓴다 (idx_payment_approved_at 범위)
+    @Modifying
+    @Query(value = """
+            merge into revenue_daily r
+            using (select cast(:date as date) as revenue_date, p.method, 0 as slot,
+                          count(*) as approved_count, sum(p.amount) as amount
+                   from payment p
+                   where p.approved_at >= :start and p.approved_at < :end
+                   group by p.method) v
+            on r.revenue_date = v.revenue_date and r.method = v.method and r.slot = v.slot
+            when matched then update
+                set approved_count = v.approved_count, amount = v.amount
+            when not matched then insert (revenue_date, method, slot, approved_count, amount)
+                values (v.revenue_date, v.method, v.slot, v.approved_count, v.amount)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revenue_daily"))
+    int recompute(@Param("date") LocalDate date,
+                  @Param("start") LocalDateTime start,
+                  @Param("end") LocalDateTime end);
+}
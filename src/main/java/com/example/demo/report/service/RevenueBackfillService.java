@@ -0,0 +1,88 @@
+package com.example.demo.report.service;
+
+import com.example.demo.report.api.dto.RevenueBackfillResponse;
+import com.example.demo.report.repository.RevenueDailyRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기간의 매출 롤업을 payment 에서 다시 집계한다.
+ * PARALLELISM 개 작업자가 하루씩 가져가 파티션마다 짧은 트랜잭션 하나로 초기화 후 재집계한다.
+ * 아직 승인이 들어오는 날은 재집계가 커밋 전 승인을 놓칠 수 있으므로 마감된 날(SETTLE 이 지난 어제까지)만 받는다.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class RevenueBackfillService {
+    static final int MAX_DAYS = 3_660;
+    static final int PARALLELISM = 4; // 커넥션 풀(기본 10)을 다 쓰지 않도록
+    static final Duration SETTLE = Duration.ofMinutes(5); // 자정 직전에 시작한 승인 트랜잭션이 커밋될 여유
+
+    private final RevenueDailyRepository revenueDailyRepository;
+    private final TransactionTemplate tx;
+    private final AsyncTaskExecutor executor;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public RevenueBackfillService(RevenueDailyRepository revenueDailyRepository,
+                                  PlatformTransactionManager txManager,
+                                  @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                  AsyncTaskExecutor executor) {
+        this.revenueDailyRepository = revenueDailyRepository;
+        this.tx = new TransactionTemplate(txManager);
+        this.executor = executor;
+    }
+
+    public RevenueBackfillResponse backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null) throw new IllegalArgumentException("from and to required");
+        if (from.isAfter(to)) throw new IllegalArgumentException("from must not be after to");
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_DAYS) throw new IllegalArgumentException("range too long (max " + MAX_DAYS + " days)");
+        LocalDate lastClosed = LocalDateTime.now(clock).minus(SETTLE).toLocalDate().minusDays(1);
+        if (to.isAfter(lastClosed)) {
+            throw new IllegalArgumentException("to must be a closed day (<= " + lastClosed + ")");
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong rows = new AtomicLong();
+        List<CompletableFuture<Void>> workers = new ArrayList<>(PARALLELISM);
+        for (int i = 0; i < Math.min(PARALLELISM, days); i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                for (int d = next.getAndIncrement(); d < days; d = next.getAndIncrement()) {
+                    rows.addAndGet(rebuildDay(from.plusDays(d)));
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        return new RevenueBackfillResponse(days, rows.get());
+    }
+
+    // 그날의 slot 을 모두 0 으로 만들고 합계를 slot 0 에 쓴다 (한 트랜잭션)
+    private long rebuildDay(LocalDate day) {
+        Integer rows = tx.execute(s -> {
+            revenueDailyRepository.resetDay(day);
+            return revenueDailyRepository.recompute(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        });
+        return rows == null ? 0 : rows;
+    }
+}
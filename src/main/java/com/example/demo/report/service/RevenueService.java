@@ -0,0 +1,67 @@
+package com.example.demo.report.service;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.report.api.dto.RevenueDailyResponse;
+import com.example.demo.report.api.dto.RevenueReportResponse;
+import com.example.demo.report.repository.RevenueDailyRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일별 x 결제수단 매출 롤업 (revenue_daily).
+ * 승인과 같은 트랜잭션에서 증분만 반영하고(MANDATORY), 리포트는 롤업만 읽는다.
+ * 증분은 SLOTS 개 중 임의의 slot 행에 upsert → 다른 slot 에 떨어진 동시 승인끼리는 행 락을 기다리지 않는다.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
+@RequiredArgsConstructor
+public class RevenueService {
+    static final int MAX_REPORT_DAYS = 366;
+    static final int SLOTS = 8;
+
+    private final RevenueDailyRepository revenueDailyRepository;
+
+    public RevenueReportResponse report(LocalDate from, LocalDate to, PaymentMethod method) {
+        if (from == null || to == null) throw new IllegalArgumentException("from and to required");
+        if (from.isAfter(to)) throw new IllegalArgumentException("from must not be after to");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS)
+            throw new IllegalArgumentException("range too long (max " + MAX_REPORT_DAYS + " days)");
+
+        List<RevenueDailyResponse> days = revenueDailyRepository.findReport(from, to, method);
+        long count = 0;
+        Money amount = Money.ZERO;
+        for (RevenueDailyResponse d : days) {
+            count += d.getApprovedCount();
+            amount = amount.plus(d.getAmount());
+        }
+        return new RevenueReportResponse(from.toString(), to.toString(), count, amount, days);
+    }
+
+    // 단건 승인 (PaymentService.approve, checkout)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addApproved(LocalDateTime approvedAt, PaymentMethod method, Money amount) {
+        revenueDailyRepository.increment(approvedAt.toLocalDate(), method.name(), slot(), 1, amount.minor());
+    }
+
+    // 일괄 승인 청크: 이번 청크가 approvedAt 에 승인한 결제 id 목록을 결제수단별로 묶어 set-based 로
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addApprovedPayments(Collection<Long> approvedPaymentIds, LocalDateTime approvedAt) {
+        revenueDailyRepository.incrementForApproved(approvedPaymentIds, approvedAt.toLocalDate(), slot());
+    }
+
+    private static int slot() {
+        return ThreadLocalRandom.current().nextInt(SLOTS);
+    }
+}
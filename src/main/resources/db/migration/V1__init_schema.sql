@@ -0,0 +1,48 @@
+-- 초기 스키마 (이전 ddl-auto=create-drop 과 같은 테이블/제약)
+-- ID 는 애플리케이션이 발급하는 Snowflake, 금액은 최소 단위(x100) bigint, enum 은 이름 문자열
+
+create table member
+(
+    member_id bigint       not null,
+    name      varchar(100) not null,
+    email     varchar(255) not null,
+    constraint pk_member primary key (member_id),
+    constraint uk_member_email unique (email)
+);
+
+create table orders
+(
+    order_id     bigint       not null,
+    member_id    bigint       not null,
+    order_date   timestamp(6) not null,
+    total_amount bigint       not null,
+    status       varchar(20)  not null,
+    version      bigint       not null,
+    constraint pk_orders primary key (order_id)
+);
+
+create table payment
+(
+    payment_id  bigint       not null,
+    order_id    bigint       not null,
+    amount      bigint       not null,
+    method      varchar(30)  not null,
+    status      varchar(20)  not null,
+    approved_at timestamp(6),
+    version     bigint       not null,
+    constraint pk_payment primary key (payment_id),
+    constraint uk_payment_order unique (order_id)
+);
+
+-- 조회 경로별 인덱스 (FK 보다 먼저 만들어 H2 가 FK 용 인덱스를 따로 만들지 않게 한다)
+-- 회원 주문 이력 keyset: member_id = ? order by order_date desc, order_id desc
+create index idx_orders_member_date on orders (member_id, order_date, order_id);
+-- 상태 + 기간 조회 (정산/집계: status = ? and order_date between ? and ?)
+create index idx_orders_status_date on orders (status, order_date);
+-- 일괄 승인 대상: status = 'REQUESTED' (keyset 은 payment_id)
+create index idx_payment_status on payment (status, payment_id);
+
+alter table orders
+    add constraint fk_orders_member foreign key (member_id) references member (member_id);
+alter table payment
+    add constraint fk_payment_orders foreign key (order_id) references orders (order_id);
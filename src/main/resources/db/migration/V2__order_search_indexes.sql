@@ -0,0 +1,5 @@
+-- 주문 검색 (GET /api/orders/search): 최신순 keyset (order_date desc, order_id desc) 을 인덱스 순서 그대로 읽는다
+-- 상태 조건이 있으면 status 로 좁힌 뒤 같은 순서로, 없으면 전체 기간 인덱스를 앞에서부터
+drop index idx_orders_status_date;
+create index idx_orders_status_date on orders (status, order_date desc, order_id desc);
+create index idx_orders_date on orders (order_date desc, order_id desc);
@@ -0,0 +1,20 @@
+-- 회원별 주문 통계 요약: 주문/결제 트랜잭션 안에서 증분으로 갱신하고, 조회는 PK 한 건
+create table member_stats
+(
+    member_id   bigint not null,
+    order_count bigint not null default 0,
+    paid_count  bigint not null default 0,
+    paid_amount bigint not null default 0, -- 결제 완료 금액 합계 (최소 단위)
+    constraint pk_member_stats primary key (member_id),
+    constraint fk_member_stats_member foreign key (member_id) references member (member_id)
+);
+
+-- 기존 회원 백필
+insert into member_stats (member_id, order_count, paid_count, paid_amount)
+select m.member_id,
+       count(o.order_id),
+       count(case when o.status = 'PAID' then 1 end),
+       coalesce(sum(case when o.status = 'PAID' then o.total_amount end), 0)
+from member m
+         left join orders o on o.member_id = m.member_id
+group by m.member_id;
@@ -0,0 +1,18 @@
+-- 일별 x 결제수단 매출 롤업: 승인 트랜잭션에서 증분 갱신, 대시보드는 이 테이블만 읽는다
+create table revenue_daily
+(
+    revenue_date   date        not null,
+    method         varchar(30) not null,
+    approved_count bigint      not null default 0,
+    amount         bigint      not null default 0, -- 승인 금액 합계 (최소 단위)
+    constraint pk_revenue_daily primary key (revenue_date, method)
+);
+
+-- 백필: 하루 구간의 승인 결제를 결제수단별로 다시 집계
+create index idx_payment_approved_at on payment (approved_at, method);
+
+insert into revenue_daily (revenue_date, method, approved_count, amount)
+select cast(p.approved_at as date), p.method, count(*), sum(p.amount)
+from payment p
+where p.approved_at is not null
+group by cast(p.approved_at as date), p.method;
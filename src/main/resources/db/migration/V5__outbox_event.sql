@@ -0,0 +1,16 @@
+-- 트랜잭셔널 아웃박스: 도메인 변경과 같은 트랜잭션에서 이벤트를 쌓고, 릴레이가 배치로 꺼내 전달한다
+create table outbox_event
+(
+    event_id       bigint        not null,
+    aggregate_type varchar(30)   not null,
+    aggregate_id   bigint        not null,
+    event_type     varchar(50)   not null,
+    payload        varchar(2000) not null, -- JSON
+    created_at     timestamp(6)  not null,
+    published_at   timestamp(6),           -- null 이면 미전달
+    attempts       int           not null default 0,
+    constraint pk_outbox_event primary key (event_id)
+);
+
+-- 릴레이: published_at is null order by event_id
+create index idx_outbox_pending on outbox_event (published_at, event_id);
@@ -0,0 +1,2 @@
+-- 회원 ETag 용 버전 (주문/결제와 같은 낙관적 락 컬럼). 기존 행은 0 에서 시작
+alter table member add column version bigint not null default 0;
@@ -0,0 +1,5 @@
+-- 매출 롤업 스트라이핑: 승인 트랜잭션이 (날짜, 결제수단) 한 행에 줄 서지 않도록 slot 으로 나눈다
+-- 리포트는 slot 을 합산한다. 기존 행은 slot 0
+alter table revenue_daily add column slot int not null default 0;
+alter table revenue_daily drop constraint pk_revenue_daily;
+alter table revenue_daily add constraint pk_revenue_daily primary key (revenue_date, method, slot);
@@ -0,0 +1,9 @@
+-- 아웃박스 재시도 백오프 / 재시도 한도 초과(parked)
+alter table outbox_event add column next_attempt_at timestamp(6); -- null 이면 바로 전달 대상
+alter table outbox_event add column parked_at timestamp(6);       -- 재시도 한도 초과: 수동 처리 전까지 애그리거트를 막는다
+
+-- 릴레이: published_at is null and parked_at is null order by event_id
+drop index idx_outbox_pending;
+create index idx_outbox_pending on outbox_event (published_at, parked_at, event_id);
+-- 릴레이: 같은 애그리거트의 앞선 미전달 이벤트가 대기/parked 인지 확인
+create index idx_outbox_aggregate on outbox_event (aggregate_id, event_id);
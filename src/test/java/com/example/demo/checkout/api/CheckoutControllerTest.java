@@ -0,0 +1,184 @@
+package com.example.demo.checkout.api;
+
+import com.example.demo.order.domain.Order;
+import com.example.demo.payment.domain.Payment;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CheckoutControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper om;
+    @Autowired
+    EntityManagerFactory emf;
+
+    private long createMember(String email) throws Exception {
+        return om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"name\":\"체크아웃\",\"email\":\"%s\"}", email)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+    }
+
+    @Test
+    @DisplayName("POST /api/checkout (approve=true) → 주문 PAID + 결제 APPROVED 를 한 번에")
+    void checkout_and_approve() throws Exception {
+        long memberId = createMember("checkout@test.com");
+        String body = String.format("{\"memberId\": %d, \"amount\": 15000, \"method\": \"CARD\", \"approve\": true}", memberId);
+
+        JsonNode res = om.readTree(mockMvc.perform(post("/api/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.order.memberId").value(String.valueOf(memberId)))
+                .andExpect(jsonPath("$.order.status").value("PAID"))
+                .andExpect(jsonPath("$.payment.status").value("APPROVED"))
+                .andExpect(jsonPath("$.payment.approvedAt").exists())
+                .andReturn().getResponse().getContentAsString());
+        long orderId = res.get("order").get("orderId").asLong();
+        long paymentId = res.get("payment").get("paymentId").asLong();
+
+        mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"));
+        mockMvc.perform(get("/api/payments/{id}", paymentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/checkout (approve=true) → 주문/결제는 최종 상태로 insert 한 번씩, UPDATE 없음")
+    void checkout_inserts_final_state_without_updates() throws Exception {
+        long memberId = createMember("checkout-final@test.com");
+        String body = String.format("{\"memberId\": %d, \"amount\": 3000, \"method\": \"CARD\", \"approve\": true}", memberId);
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        mockMvc.perform(post("/api/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        var orders = stats.getEntityStatistics(Order.class.getName());
+        var payments = stats.getEntityStatistics(Payment.class.getName());
+        assertThat(orders.getInsertCount()).isEqualTo(1);
+        assertThat(orders.getUpdateCount()).isZero();
+        assertThat(payments.getInsertCount()).isEqualTo(1);
+        assertThat(payments.getUpdateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /api/checkout (approve=false) → 주문 CREATED + 결제 REQUESTED, 이후 개별 승인 가능")
+    void checkout_without_approve() throws Exception {
+        long memberId = createMember("checkout-noapprove@test.com");
+        String body = String.format("{\"memberId\": %d, \"amount\": 15000, \"method\": \"CARD\"}", memberId);
+
+        long paymentId = om.readTree(mockMvc.perform(post("/api/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.order.status").value("CREATED"))
+                .andExpect(jsonPath("$.payment.status").value("REQUESTED"))
+                .andReturn().getResponse().getContentAsString()).get("payment").get("paymentId").asLong();
+
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/checkout 같은 Idempotency-Key 재시도 → 주문이 하나만 생긴다")
+    void checkout_idempotent_retry() throws Exception {
+        long memberId = createMember("checkout-idem@test.com");
+        String body = String.format("{\"memberId\": %d, \"amount\": 5000, \"method\": \"CARD\", \"approve\": true}", memberId);
+
+        long orderId = om.readTree(mockMvc.perform(post("/api/checkout")
+                        .header("Idempotency-Key", "checkout-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("order").get("orderId").asLong();
+
+        mockMvc.perform(post("/api/checkout")
+                        .header("Idempotency-Key", "checkout-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.order.orderId").value(String.valueOf(orderId)));
+
+        mockMvc.perform(get("/api/members/{id}/orders", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/checkout 회원별 burst 를 넘기면 429, 앞선 Idempotency-Key 재시도는 제한 없이 재생")
+    void checkout_rate_limited_per_member() throws Exception {
+        long memberId = createMember("checkout-limit@test.com");
+        String body = String.format("{\"memberId\": %d, \"amount\": 1000, \"method\": \"CARD\", \"approve\": false}", memberId);
+        mockMvc.perform(post("/api/checkout")
+                        .header("Idempotency-Key", "checkout-limit-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        int passed = 1;
+        int limitedStatus = 0;
+        String retryAfter = null;
+        for (int i = 0; i < 60 && limitedStatus == 0; i++) {
+            var res = mockMvc.perform(post("/api/checkout").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andReturn().getResponse();
+            if (res.getStatus() == 429) {
+                limitedStatus = res.getStatus();
+                retryAfter = res.getHeader("Retry-After");
+            } else {
+                passed++;
+            }
+        }
+
+        assertThat(limitedStatus).isEqualTo(429);
+        assertThat(passed).isGreaterThanOrEqualTo(20);
+        assertThat(Long.parseLong(retryAfter)).isPositive();
+
+        mockMvc.perform(post("/api/checkout")
+                        .header("Idempotency-Key", "checkout-limit-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+    }
+
+    @Test
+    @DisplayName("POST /api/checkout 회원 없음 → 404")
+    void checkout_member_not_found() throws Exception {
+        mockMvc.perform(post("/api/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": 987654321, \"amount\": 1000, \"method\": \"CARD\", \"approve\": true}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("member not found"));
+    }
+}
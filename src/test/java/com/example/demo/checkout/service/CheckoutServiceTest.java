@@ -0,0 +1,113 @@
+package com.example.demo.checkout.service;
+
+import com.example.demo.checkout.api.dto.CheckoutRequest;
+import com.example.demo.checkout.api.dto.CheckoutResponse;
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxWriter;
+import com.example.demo.member.domain.Member;
+import com.example.demo.member.service.MemberService;
+import com.example.demo.member.service.MemberStatsService;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderCreatedEvent;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentApprovedEvent;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.report.service.RevenueService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckoutServiceTest {
+
+    @Mock
+    MemberService memberService;
+    @Mock
+    MemberStatsService memberStatsService;
+    @Mock
+    RevenueService revenueService;
+    @Mock
+    OrderRepository orderRepository;
+    @Mock
+    PaymentRepository paymentRepository;
+    @Mock
+    OutboxWriter outboxWriter;
+
+    @InjectMocks
+    CheckoutService checkoutService;
+
+    private Member member() {
+        Member member = Member.builder()
+                .MemberId(1L)
+                .name("홍길동")
+                .email("hong@test.com")
+                .build();
+        when(memberService.getReference(1L)).thenReturn(member);
+        when(orderRepository.save(any(Order.class))).thenAnswer(returnsFirstArg());
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(returnsFirstArg());
+        return member;
+    }
+
+    @Test
+    @DisplayName("checkout(approve=true): 주문/결제를 만들고 승인까지 → PAID / APPROVED, 재조회 없음")
+    void checkout_with_approve() {
+        member();
+
+        CheckoutResponse res = checkoutService.checkout(new CheckoutRequest(1L, Money.of(42000), PaymentMethod.CARD, true));
+
+        assertThat(res.getOrder().getMemberId()).isEqualTo(1L);
+        assertThat(res.getOrder().getStatus()).isEqualTo("PAID");
+        assertThat(res.getOrder().getAmount()).isEqualTo(Money.of(42000));
+        assertThat(res.getPayment().getStatus()).isEqualTo("APPROVED");
+        assertThat(res.getPayment().getMethod()).isEqualTo("CARD");
+        assertThat(res.getPayment().getApprovedAt()).isNotNull();
+
+        verify(memberService).getDto(1L);
+        verify(orderRepository).save(any(Order.class));
+        verify(paymentRepository).save(any(Payment.class));
+        verify(memberStatsService).add(1L, 1, 1, Money.of(42000)); // 통계 UPDATE 한 번
+        verify(revenueService).addApproved(any(), eq(PaymentMethod.CARD), eq(Money.of(42000)));
+        verify(outboxWriter).append(any(OrderCreatedEvent.class));
+        verify(outboxWriter).append(any(PaymentApprovedEvent.class));
+        verifyNoMoreInteractions(orderRepository, paymentRepository); // findById 없음
+    }
+
+    @Test
+    @DisplayName("checkout(approve=false): 결제 요청까지만 → CREATED / REQUESTED")
+    void checkout_without_approve() {
+        member();
+
+        CheckoutResponse res = checkoutService.checkout(new CheckoutRequest(1L, Money.of(42000), PaymentMethod.CARD, false));
+
+        assertThat(res.getOrder().getStatus()).isEqualTo("CREATED");
+        assertThat(res.getPayment().getStatus()).isEqualTo("REQUESTED");
+        assertThat(res.getPayment().getApprovedAt()).isNull();
+        verify(memberStatsService).add(1L, 1, 0, Money.ZERO);
+        verifyNoInteractions(revenueService); // 승인 전에는 매출 아님
+        verify(outboxWriter).append(any(OrderCreatedEvent.class));
+        verify(outboxWriter, never()).append(any(PaymentApprovedEvent.class));
+    }
+
+    @Test
+    @DisplayName("checkout: 회원 없음 → IllegalArgumentException('member not found'), 저장 없음")
+    void checkout_member_not_found() {
+        when(memberService.getDto(99L)).thenThrow(new IllegalArgumentException("member not found"));
+
+        assertThatThrownBy(() -> checkoutService.checkout(new CheckoutRequest(99L, Money.of(1000), PaymentMethod.CARD, true)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("member not found");
+
+        verifyNoInteractions(orderRepository, paymentRepository, memberStatsService, outboxWriter);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    MeterRegistry registry;
+
+    private double exceptions(String status) {
+        var counter = registry.find("app.exceptions")
+                .tags("exception", "IllegalArgumentException", "status", status)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("예외 응답은 app.exceptions 카운터에 (exception, status) 태그로 집계된다")
+    void exception_counter() throws Exception {
+        double notFound = exceptions("404");
+        double badRequest = exceptions("400");
+
+        mockMvc.perform(get("/api/orders/{id}", 987654321L))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(exceptions("404")).isEqualTo(notFound + 1);
+        assertThat(exceptions("400")).isEqualTo(badRequest + 1);
+    }
+
+    @Test
+    @DisplayName("서비스 메서드 타이머와 Hibernate/Hikari 메트릭이 등록된다")
+    void service_timer_and_persistence_metrics() throws Exception {
+        mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"메트릭\",\"email\":\"metrics@test.com\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(registry.find("app.service")
+                .tags("class", "com.example.demo.member.service.MemberService", "method", "register")
+                .timer())
+                .isNotNull()
+                .satisfies(t -> assertThat(t.count()).isPositive());
+        assertThat(Search.in(registry).name("hibernate.statements").meters()).isNotEmpty();
+        assertThat(Search.in(registry).name("hibernate.second.level.cache.requests").meters()).isNotEmpty();
+        assertThat(Search.in(registry).name(n -> n.startsWith("hikaricp.connections")).meters()).isNotEmpty();
+    }
+}
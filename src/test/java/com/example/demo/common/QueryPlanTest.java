@@ -0,0 +1,232 @@
+package com.example.demo.common;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxEventRepository;
+import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.order.domain.OrderStatus;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.repository.OrderSearchCondition;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.report.repository.RevenueDailyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 가 실제로 만든 SQL 을 H2 QUERY_STATISTICS 로 수집해 EXPLAIN 한다.
+ * 실행 계획에 풀 스캔(tableScan)이 있으면 실패 → 인덱스 없는 조회 경로가 추가되면 여기서 잡힌다.
+ * 범위가 중요한 경로는 인덱스 조건("IDX: 컬럼 조건")까지 확인한다 (조건 없는 인덱스 순회도 전체를 읽는다).
+ */
+@SpringBootTest
+class QueryPlanTest {
+
+    @Autowired
+    JdbcTemplate jdbc;
+    @Autowired
+    PlatformTransactionManager txManager;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    PaymentRepository paymentRepository;
+    @Autowired
+    RevenueDailyRepository revenueDailyRepository;
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        // false → true 로 켜면 이전 통계가 비워진다
+        jdbc.execute("SET QUERY_STATISTICS FALSE");
+        jdbc.execute("SET QUERY_STATISTICS TRUE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("SET QUERY_STATISTICS FALSE");
+    }
+
+    @Test
+    @DisplayName("회원: PK / email 조회는 인덱스를 탄다")
+    void member_queries_use_index() {
+        memberRepository.findResponseById(1L);
+        memberRepository.findByEmail("plan-" + System.nanoTime() + "@test.com");
+        memberRepository.findAllById(List.of(1L, 2L));
+
+        assertNoTableScan(capturedStatements("member"));
+    }
+
+    @Test
+    @DisplayName("주문: 단건 / 회원 주문 이력(첫 페이지, 커서)은 인덱스를 탄다")
+    void order_queries_use_index() {
+        LocalDateTime now = LocalDateTime.now();
+        orderRepository.findResponseById(1L);
+        orderRepository.findResponsesByIds(List.of(1L, 2L));
+        orderRepository.findMemberOrders(1L, null, PageRequest.of(0, 21));
+        orderRepository.findMemberOrders(1L, OrderStatus.PAID, PageRequest.of(0, 21));
+        orderRepository.findMemberOrdersAfter(1L, OrderStatus.CREATED, now, 1L, PageRequest.of(0, 21));
+
+        List<String> statements = capturedStatements("orders");
+        assertNoTableScan(statements);
+        assertThat(statements).anySatisfy(sql ->
+                assertThat(explain(sql)).containsIgnoringCase("IDX_ORDERS_MEMBER_DATE"));
+    }
+
+    @Test
+    @DisplayName("결제: 단건 / 다건 / 승인 대상 조회는 인덱스를 탄다")
+    void payment_queries_use_index() {
+        LocalDateTime now = LocalDateTime.now();
+        paymentRepository.findResponseById(1L);
+        paymentRepository.findResponsesByIds(List.of(1L, 2L));
+        paymentRepository.findRequestedIds(null, null, 0L, PageRequest.of(0, 1000));
+        paymentRepository.findRequestedIds(PaymentMethod.CARD, now, 0L, PageRequest.of(0, 1000));
+
+        List<String> statements = capturedStatements("payment");
+        assertNoTableScan(statements);
+        assertThat(statements).anySatisfy(sql ->
+                assertThat(explain(sql)).containsIgnoringCase("IDX_PAYMENT_STATUS"));
+    }
+
+    @Test
+    @DisplayName("일괄 승인 행 잠금 / bulk update 는 PK 로 대상 행만 찾는다")
+    void bulk_approve_updates_use_index() {
+        tx.executeWithoutResult(s -> {
+            orderRepository.lockOrdersOfRequestedPayments(List.of(1L, 2L));
+            paymentRepository.lockRequestedIds(List.of(1L, 2L));
+            orderRepository.markPaidForRequestedPayments(List.of(1L, 2L));
+            paymentRepository.approveRequested(List.of(1L, 2L), LocalDateTime.now());
+        });
+
+        assertNoTableScan(capturedStatements("update"));
+    }
+
+    @Test
+    @DisplayName("주문 검색: 상태 또는 기간을 인덱스 조건으로 써서 범위만 읽는다 (인덱스 전체 스캔 없음)")
+    void order_search_uses_index_range() {
+        LocalDateTime now = LocalDateTime.now();
+        orderRepository.search(new OrderSearchCondition(null, now.minusDays(31), now, null, null, null), null, null, 21);
+        orderRepository.search(new OrderSearchCondition(OrderStatus.PAID, null, null, null, null, null), null, null, 21);
+        orderRepository.search(new OrderSearchCondition(OrderStatus.PAID, now.minusDays(7), now, null, null, null),
+                now, 1L, 21);
+        orderRepository.search(new OrderSearchCondition(null, now.minusDays(1), now, Money.of(1), Money.of(100),
+                PaymentMethod.CARD), null, null, 21);
+
+        List<String> statements = capturedStatements("orders");
+        assertNoTableScan(statements);
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql)
+                    .containsPattern("(?i)(IDX_ORDERS_STATUS_DATE: STATUS =|IDX_ORDERS_DATE: ORDER_DATE )");
+        }
+    }
+
+    @Test
+    @DisplayName("매출 리포트 / 롤업 upsert / 백필 재집계는 인덱스를 탄다")
+    void revenue_rollup_queries_use_index() {
+        LocalDate today = LocalDate.now();
+        revenueDailyRepository.findReport(today.minusDays(30), today, null);
+        revenueDailyRepository.findReport(today.minusDays(30), today, PaymentMethod.CARD);
+        tx.executeWithoutResult(s -> {
+            revenueDailyRepository.increment(today, PaymentMethod.CARD.name(), 0, 1, 100);
+            revenueDailyRepository.incrementForApproved(List.of(1L, 2L), today, 1);
+            revenueDailyRepository.resetDay(today);
+            revenueDailyRepository.recompute(today, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        });
+
+        assertNoTableScan(capturedStatements("revenue_daily"));
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이: 미전달 조회(애그리거트 차단 확인 포함) / 상태 기록 / parked 수 / 보관 기간 정리는 인덱스를 탄다")
+    void outbox_relay_queries_use_index() {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.findPending(now, PageRequest.of(0, 100));
+        outboxEventRepository.countParked();
+        outboxEventRepository.findPublishedBefore(now.minusDays(7), PageRequest.of(0, 1000));
+        tx.executeWithoutResult(s -> {
+            outboxEventRepository.markPublished(List.of(1L, 2L), now);
+            outboxEventRepository.markFailed(List.of(1L, 2L), now.plusSeconds(1));
+            outboxEventRepository.markParked(List.of(1L, 2L), now);
+            outboxEventRepository.deleteByIds(List.of(1L, 2L));
+        });
+
+        List<String> statements = capturedStatements("outbox_event");
+        assertNoTableScan(statements);
+        assertThat(statements).anySatisfy(sql -> assertThat(explain(sql))
+                .containsIgnoringCase("IDX_OUTBOX_PENDING")
+                .containsIgnoringCase("IDX_OUTBOX_AGGREGATE"));
+    }
+
+    @Test
+    @DisplayName("상태 + 기간 조회는 idx_orders_status_date 를 탄다")
+    void status_date_range_uses_index() {
+        String sql = """
+                select count(*) from orders o
+                where o.status = ? and o.order_date >= ? and o.order_date < ?
+                """;
+
+        assertThat(explain(sql))
+                .containsIgnoringCase("IDX_ORDERS_STATUS_DATE")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    // 이 테스트가 실행한 select/update/merge/delete 중 keyword 가 들어간 것
+    private List<String> capturedStatements(String keyword) {
+        List<String> statements = jdbc.queryForList(
+                        "select SQL_STATEMENT from INFORMATION_SCHEMA.QUERY_STATISTICS", String.class)
+                .stream()
+                .filter(sql -> {
+                    String s = sql.strip().toLowerCase(Locale.ROOT);
+                    return (s.startsWith("select") || s.startsWith("update") || s.startsWith("merge")
+                            || s.startsWith("delete"))
+                            && !s.contains("information_schema")
+                            && s.contains(keyword);
+                })
+                .toList();
+        assertThat(statements).as("captured SQL containing '%s'", keyword).isNotEmpty();
+        return statements;
+    }
+
+    private void assertNoTableScan(List<String> statements) {
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    // 계획은 prepare 시점에 정해지므로 파라미터는 모두 null 로 바인딩해도 된다
+    private String explain(String sql) {
+        return jdbc.execute((Connection con) -> {
+            try (var ps = con.prepareStatement("EXPLAIN " + sql)) {
+                int params = ps.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= params; i++) {
+                    ps.setNull(i, Types.NULL);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+}
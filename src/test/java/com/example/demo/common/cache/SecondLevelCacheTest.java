@@ -0,0 +1,113 @@
+package com.example.demo.common.cache;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.domain.Member;
+import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.repository.PaymentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    EntityManagerFactory emf;
+    @Autowired
+    PlatformTransactionManager txManager;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    TransactionTemplate tx;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("Member: 새 트랜잭션의 두 번째 조회는 SQL 없이 2차 캐시에서")
+    void member_second_read_issues_no_sql() {
+        Long id = tx.execute(s -> memberRepository.save(Member.create("L2", "l2-member@test.com")).getMemberId());
+        emf.getCache().evict(Member.class);
+
+        tx.executeWithoutResult(s -> memberRepository.findById(id).orElseThrow());
+        stats.clear();
+        tx.executeWithoutResult(s -> memberRepository.findById(id).orElseThrow());
+
+        assertThat(stats.getPrepareStatementCount()).isZero();
+        assertThat(stats.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("findByEmail: 두 번째 호출은 쿼리 캐시 + 엔티티 캐시로 SQL 없음")
+    void findByEmail_second_call_issues_no_sql() {
+        tx.executeWithoutResult(s -> memberRepository.save(Member.create("L2Q", "l2-query@test.com")));
+
+        tx.executeWithoutResult(s -> memberRepository.findByEmail("l2-query@test.com").orElseThrow());
+        stats.clear();
+        tx.executeWithoutResult(s -> memberRepository.findByEmail("l2-query@test.com").orElseThrow());
+
+        assertThat(stats.getPrepareStatementCount()).isZero();
+        assertThat(stats.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Order: 새 트랜잭션의 두 번째 조회는 SQL 없이 2차 캐시에서 (payment 조회 없음)")
+    void order_second_read_issues_no_sql() {
+        Long orderId = tx.execute(s -> {
+            Member member = memberRepository.save(Member.create("L2O", "l2-order@test.com"));
+            Order order = orderRepository.save(Order.create(member, Money.valueOf("500"), LocalDateTime.now()));
+            paymentRepository.save(Payment.request(order, Money.valueOf("500"), PaymentMethod.CARD));
+            return order.getOrderId();
+        });
+        emf.getCache().evict(Order.class);
+
+        tx.executeWithoutResult(s -> orderRepository.findById(orderId).orElseThrow());
+        stats.clear();
+        tx.executeWithoutResult(s -> orderRepository.findById(orderId).orElseThrow());
+
+        assertThat(stats.getPrepareStatementCount()).isZero();
+        assertThat(stats.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Payment: 새 트랜잭션의 두 번째 조회는 SQL 없이 2차 캐시에서")
+    void payment_second_read_issues_no_sql() {
+        Long paymentId = tx.execute(s -> {
+            Member member = memberRepository.save(Member.create("L2P", "l2-payment@test.com"));
+            Order order = orderRepository.save(Order.create(member, Money.valueOf("1000"), LocalDateTime.now()));
+            return paymentRepository.save(Payment.request(order, Money.valueOf("1000"), PaymentMethod.CARD)).getPaymentId();
+        });
+        emf.getCache().evict(Payment.class);
+
+        tx.executeWithoutResult(s -> paymentRepository.findById(paymentId).orElseThrow());
+        stats.clear();
+        tx.executeWithoutResult(s -> paymentRepository.findById(paymentId).orElseThrow());
+
+        assertThat(stats.getPrepareStatementCount()).isZero();
+        assertThat(stats.getSecondLevelCacheHitCount()).isPositive();
+    }
+}
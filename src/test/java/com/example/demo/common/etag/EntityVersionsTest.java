@@ -0,0 +1,80 @@
+package com.example.demo.common.etag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityVersionsTest {
+
+    EntityVersions versions = new EntityVersions(1_000, Duration.ofMinutes(1));
+    AtomicInteger loads = new AtomicInteger();
+
+    private ResponseEntity<String> get(long id, String ifNoneMatch, long currentVersion) {
+        return versions.conditionalGet(EntityVersions.ORDER, id, ifNoneMatch, () -> {
+            loads.incrementAndGet();
+            return "v" + currentVersion;
+        }, body -> currentVersion);
+    }
+
+    @Test
+    @DisplayName("첫 GET 은 로딩 후 버전 ETag, 같은 ETag 로 다시 오면 로딩 없이 304")
+    void not_modified_without_loading() {
+        ResponseEntity<String> first = get(1L, null, 3);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getHeaders().getETag()).isEqualTo("\"3\"");
+
+        ResponseEntity<String> second = get(1L, "\"3\"", 3);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(second.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋된 새 버전이 기록되면 옛 ETag 는 200 으로 새 본문을 받는다")
+    void updated_version_forces_reload() {
+        get(1L, null, 3);
+        versions.updateAfterCommit(EntityVersions.ORDER, 1L, 4L); // 트랜잭션 밖 → 즉시
+
+        ResponseEntity<String> res = get(1L, "\"3\"", 4);
+
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(res.getBody()).isEqualTo("v4");
+        assertThat(res.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("늦게 읽힌 옛 버전은 새 버전을 덮어쓰지 못한다 (max 로 합침)")
+    void stale_load_does_not_downgrade() {
+        versions.updateAfterCommit(EntityVersions.ORDER, 1L, 5L);
+        versions.record(EntityVersions.ORDER, 1L, 4L);
+
+        assertThat(versions.get(EntityVersions.ORDER, 1L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("커밋 후 기록한 새 버전은 늦게 로딩된 옛 DTO 가 있어도 남아 옛 ETag 에 200 을 준다")
+    void stale_load_after_update_keeps_new_version() {
+        versions.updateAfterCommit(EntityVersions.ORDER, 1L, 4L);
+        get(1L, null, 3); // 커밋 전에 읽힌 옛 DTO
+
+        assertThat(get(1L, "\"3\"", 4).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(get(1L, "\"4\"", 4).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("If-None-Match: 목록 / 약한 비교(W/) / * 를 받는다")
+    void if_none_match_parsing() {
+        assertThat(ETags.matches("\"1\", \"3\"", ETags.of(3))).isTrue();
+        assertThat(ETags.matches("W/\"3\"", ETags.of(3))).isTrue();
+        assertThat(ETags.matches("*", ETags.of(3))).isTrue();
+        assertThat(ETags.matches("\"33\"", ETags.of(3))).isFalse();
+        assertThat(ETags.matches(null, ETags.of(3))).isFalse();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.common.id;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("nextId: 노드 번호와 발급 시각이 ID에 담긴다")
+    void encodes_node_and_timestamp() {
+        SnowflakeIdGenerator gen = new SnowflakeIdGenerator(42, () -> NOW);
+
+        long id = gen.nextId();
+
+        assertThat(SnowflakeIdGenerator.nodeOf(id)).isEqualTo(42);
+        assertThat(SnowflakeIdGenerator.epochMillisOf(id)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("nextId: 같은 ms 안에서 시퀀스가 넘쳐도, 시계가 뒤로 가도 단조 증가")
+    void monotonic_on_overflow_and_clock_skew() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator gen = new SnowflakeIdGenerator(1, clock::get);
+
+        long prev = gen.nextId();
+        for (int i = 0; i < 10_000; i++) {          // 4096개 초과 → 다음 ms 를 빌려 씀
+            long id = gen.nextId();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+        clock.set(NOW - 5_000);                      // 시계가 5초 뒤로
+        assertThat(gen.nextId()).isGreaterThan(prev);
+    }
+
+    @Test
+    @DisplayName("nextId: 여러 스레드에서 동시에 발급해도 중복 없음")
+    void unique_under_contention() throws Exception {
+        SnowflakeIdGenerator gen = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8, perThread = 50_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) ids.add(gen.nextId());
+            }));
+        }
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("nextId: 노드가 다르면 같은 시각에도 ID가 겹치지 않음")
+    void distinct_across_nodes() {
+        SnowflakeIdGenerator a = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator b = new SnowflakeIdGenerator(2, () -> NOW);
+
+        assertThat(a.nextId()).isNotEqualTo(b.nextId());
+    }
+
+    @Test
+    @DisplayName("생성자: 노드 번호 범위를 벗어나면 IllegalArgumentException")
+    void invalid_node_id_throws() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("EPOCH 한 달 뒤 ID 는 2^53 을 넘는다 → 응답 JSON 에는 문자열로 정확히 나간다")
+    void ids_exceed_js_safe_integer_and_serialize_as_string() throws Exception {
+        long monthLater = SnowflakeIdGenerator.EPOCH_MILLIS + 31L * 24 * 60 * 60 * 1000;
+        long id = new SnowflakeIdGenerator(1, () -> monthLater).nextId();
+        assertThat(id).isGreaterThan(1L << 53);
+
+        String json = new ObjectMapper().writeValueAsString(
+                new OrderResponse(id, id + 1, "CREATED", "2025-02-01T00:00", Money.of(1)));
+
+        assertThat(json)
+                .contains("\"orderId\":\"" + id + "\"")
+                .contains("\"memberId\":\"" + (id + 1) + "\"");
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.demo.common.idempotency;
+
+import com.example.demo.common.StateConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(1), 1_000, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("같은 키의 두 번째 호출은 action 없이 첫 응답을 replay")
+    void replays_first_response() {
+        AtomicInteger calls = new AtomicInteger();
+
+        var first = store.execute("s", "k1", "f", () -> "res-" + calls.incrementAndGet());
+        var second = store.execute("s", "k1", "f", () -> "res-" + calls.incrementAndGet());
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response()).isEqualTo("res-1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 요청은 진행 중인 첫 요청 결과를 기다려 재사용")
+    void concurrent_duplicates_wait_for_in_flight() throws Exception {
+        int threads = 32;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        List<Future<IdempotencyStore.Outcome<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                go.await();
+                return store.execute("s", "k2", "f", () -> {
+                    calls.incrementAndGet();
+                    sleep(50);
+                    return "paid";
+                });
+            }));
+        }
+        go.countDown();
+
+        int replayed = 0;
+        for (var f : futures) {
+            var outcome = f.get(10, TimeUnit.SECONDS);
+            assertThat(outcome.response()).isEqualTo("paid");
+            if (outcome.replayed()) replayed++;
+        }
+        pool.shutdown();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(replayed).isEqualTo(threads - 1);
+    }
+
+    @Test
+    @DisplayName("다른 키는 진행 중인 요청을 기다리지 않는다")
+    void other_keys_do_not_wait() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = pool.submit(() -> store.execute("s", "slow", "f", () -> {
+                await(release);
+                return "slow";
+            }));
+
+            var other = store.execute("s", "fast", "f", () -> "fast");
+            assertThat(other.response()).isEqualTo("fast");
+            assertThat(slow.isDone()).isFalse();
+
+            release.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키 요청이 wait-timeout 안에 끝나지 않으면 StateConflictException")
+    void same_key_wait_times_out() throws Exception {
+        IdempotencyStore shortWait = new IdempotencyStore(Duration.ofMinutes(1), 1_000, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = pool.submit(() -> shortWait.execute("s", "k6", "f", () -> {
+                started.countDown();
+                await(release);
+                return "ok";
+            }));
+            started.await();
+
+            assertThatThrownBy(() -> shortWait.execute("s", "k6", "f", () -> "dup"))
+                    .isInstanceOf(StateConflictException.class)
+                    .hasMessage("request with the same Idempotency-Key is in progress");
+
+            release.countDown();
+            first.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("기다리던 첫 요청이 실패하면 기다린 요청이 직접 실행한다")
+    void waiter_runs_after_failed_in_flight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = pool.submit(() -> store.execute("s", "k7", "f", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            started.await();
+
+            Future<IdempotencyStore.Outcome<String>> second = pool.submit(() -> store.execute("s", "k7", "f", () -> "retried"));
+            release.countDown();
+
+            assertThat(second.get(10, TimeUnit.SECONDS).replayed()).isFalse();
+            assertThat(second.get().response()).isEqualTo("retried");
+            assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 시도 가능")
+    void failure_is_not_stored() {
+        assertThatThrownBy(() -> store.execute("s", "k3", "f", () -> {
+            throw new IllegalArgumentException("order not found");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        var retry = store.execute("s", "k3", "f", () -> "ok");
+
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.response()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 내용으로 재사용 → IllegalArgumentException")
+    void different_request_same_key_rejected() {
+        store.execute("s", "k4", "order=1", () -> "ok");
+
+        assertThatThrownBy(() -> store.execute("s", "k4", "order=2", () -> "other"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Idempotency-Key reused with a different request");
+    }
+
+    @Test
+    @DisplayName("scope 가 다르면 같은 키라도 별개")
+    void scopes_are_independent() {
+        store.execute("request", "k5", "f", () -> "a");
+
+        var other = store.execute("approve", "k5", "f", () -> "b");
+
+        assertThat(other.replayed()).isFalse();
+        assertThat(other.response()).isEqualTo("b");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.common.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    final ObjectMapper om = new ObjectMapper();
+
+    @ParameterizedTest
+    @CsvSource({
+            "12345, 1234500, 12345.00",
+            "12345.6, 1234560, 12345.60",
+            "12345.67, 1234567, 12345.67",
+            "0.05, 5, 0.05",
+            "-0.5, -50, -0.50",
+            "-12.34, -1234, -12.34",
+            "1.230, 123, 1.23",
+            "1.5E3, 150000, 1500.00"
+    })
+    @DisplayName("valueOf: 최소 단위(x100) long 으로 정확히 변환, toString 은 소수 2자리")
+    void parse_and_format(String text, long minor, String formatted) {
+        Money money = Money.valueOf(text);
+
+        assertThat(money.minor()).isEqualTo(minor);
+        assertThat(money.toString()).isEqualTo(formatted);
+        assertThat(money.toBigDecimal()).isEqualByComparingTo(new BigDecimal(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.234", "0.001", "1.5E-3"})
+    @DisplayName("valueOf: 소수 셋째 자리 이상 → 반올림하지 않고 거부")
+    void rejects_scale(String text) {
+        assertThatThrownBy(() -> Money.valueOf(text))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("amount scale must be <= 2");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "abc", "1.", "1..2", "1,000", "99999999999999999999"})
+    @DisplayName("valueOf: 형식 오류/범위 초과 → IllegalArgumentException")
+    void rejects_invalid(String text) {
+        assertThatThrownBy(() -> Money.valueOf(text)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("JSON: 정수/소수/문자열을 double 없이 읽고, 숫자로 쓴다")
+    void json_round_trip() throws Exception {
+        assertThat(om.readValue("50000", Money.class)).isEqualTo(Money.of(50000));
+        assertThat(om.readValue("0.1", Money.class)).isEqualTo(Money.ofMinor(10));
+        assertThat(om.readValue("\"19.99\"", Money.class)).isEqualTo(Money.ofMinor(1999));
+
+        assertThat(om.writeValueAsString(Money.ofMinor(1999))).isEqualTo("19.99");
+        assertThat(om.writeValueAsString(Money.of(50000))).isEqualTo("50000.00");
+    }
+
+    @Test
+    @DisplayName("converter: bigint 최소 단위와 상호 변환, null 유지")
+    void converter() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertThat(converter.convertToDatabaseColumn(Money.valueOf("12.34"))).isEqualTo(1234L);
+        assertThat(converter.convertToEntityAttribute(1234L)).isEqualTo(Money.valueOf("12.34"));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("비교/합산은 long 연산")
+    void arithmetic() {
+        assertThat(Money.of(1).plus(Money.ofMinor(50))).isEqualTo(Money.valueOf("1.50"));
+        assertThat(Money.of(2)).isGreaterThan(Money.valueOf("1.99"));
+        assertThat(Money.valueOf("-0.01").isNegative()).isTrue();
+        assertThat(Money.ZERO.signum()).isZero();
+    }
+}
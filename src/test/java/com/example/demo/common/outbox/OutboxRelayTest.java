@@ -0,0 +1,146 @@
+package com.example.demo.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay(int batchSize, OutboxSubscriber... subscribers) {
+        return new OutboxRelay(outboxEventRepository, List.of(subscribers), txManager, meterRegistry, batchSize, 10,
+                Duration.ofSeconds(1), Duration.ofMinutes(5));
+    }
+
+    private static OutboxMessage message(long eventId, long aggregateId) {
+        return message(eventId, aggregateId, 0);
+    }
+
+    private static OutboxMessage message(long eventId, long aggregateId, int attempts) {
+        return new OutboxMessage(eventId, "ORDER", aggregateId, "OrderCreated", "{}", attempts);
+    }
+
+    private static List<OutboxMessage> messages(long fromId, int count) {
+        return LongStream.range(fromId, fromId + count).mapToObj(id -> message(id, id)).toList();
+    }
+
+    @Test
+    @DisplayName("drain: 꽉 찬 배치는 바로 다음 배치를 읽고, 덜 찬 배치에서 멈춘다")
+    void drain_until_partial_batch() {
+        List<OutboxMessage> received = new ArrayList<>();
+        when(outboxEventRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(messages(1, 3), messages(4, 3), messages(7, 1));
+
+        int published = relay(3, received::add).drain();
+
+        assertThat(published).isEqualTo(7);
+        assertThat(received).extracting(OutboxMessage::eventId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        verify(outboxEventRepository, times(3)).findPending(any(LocalDateTime.class), any(Pageable.class));
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L, 3L)), any());
+        verify(outboxEventRepository, never()).markFailed(anyCollection(), any());
+        verify(txManager, times(3)).commit(any()); // 배치당 상태 기록 트랜잭션 한 번
+        assertThat(meterRegistry.counter("app.outbox.published").count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("relayBatch: 구독자 예외 → attempts+1 과 백오프 후 다음 시도 시각, 같은 애그리거트의 뒤 이벤트는 보류, 나머지는 published")
+    void failed_event_blocks_same_aggregate() {
+        List<OutboxMessage> batch = List.of(message(1, 100), message(2, 200), message(3, 100), message(4, 300));
+        when(outboxEventRepository.findPending(any(LocalDateTime.class), any(Pageable.class))).thenReturn(batch);
+        List<Long> received = new ArrayList<>();
+        OutboxSubscriber subscriber = m -> {
+            if (m.eventId() == 1L) throw new IllegalStateException("down");
+            received.add(m.eventId());
+        };
+
+        int published = relay(4, subscriber).drain();
+
+        assertThat(published).isEqualTo(2);
+        assertThat(received).containsExactly(2L, 4L); // 3 은 1 과 같은 애그리거트라 다음 폴링으로
+        verify(outboxEventRepository).markPublished(eq(List.of(2L, 4L)), any());
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).markFailed(eq(List.of(1L)), next.capture());
+        assertThat(next.getValue()).isCloseTo(LocalDateTime.now().plusSeconds(1), within(500, ChronoUnit.MILLIS));
+        verify(outboxEventRepository, never()).markParked(anyCollection(), any());
+        verify(outboxEventRepository, times(1)).findPending(any(LocalDateTime.class), any(Pageable.class)); // 실패가 있으면 쉰다
+        assertThat(meterRegistry.counter("app.outbox.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("relayBatch: 미전달 이벤트가 없으면 상태 기록 트랜잭션도 없다")
+    void empty_batch() {
+        when(outboxEventRepository.findPending(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(relay(100).drain()).isZero();
+
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+        verifyNoInteractions(txManager);
+    }
+
+    @Test
+    @DisplayName("relayBatch: 백오프는 실패할 때마다 두 배 (최대 backoff-max), 같은 시각끼리 UPDATE 한 번")
+    void backoff_doubles_per_attempt() {
+        // attempts 는 이번 실패 전 횟수: 1 → 2초, 3 → 8초, 9 → 512초 → 최대 5분
+        when(outboxEventRepository.findPending(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(
+                message(1, 100, 1), message(2, 200, 3), message(3, 300, 1), message(4, 400, 9)));
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, List.of(m -> {
+            throw new IllegalStateException("down");
+        }), txManager, meterRegistry, 100, 20, Duration.ofSeconds(1), Duration.ofMinutes(5));
+
+        relay.drain();
+
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.captor();
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository, times(3)).markFailed(ids.capture(), next.capture());
+        assertThat(ids.getAllValues()).containsExactly(List.of(1L, 3L), List.of(2L), List.of(4L));
+        LocalDateTime t = next.getAllValues().get(0).minusSeconds(2);
+        assertThat(next.getAllValues()).containsExactly(t.plusSeconds(2), t.plusSeconds(8), t.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("relayBatch: max-attempts 번째 실패 → parked (다음 시도 시각 없음), app.outbox.parked 게이지")
+    void exhausted_event_is_parked() {
+        when(outboxEventRepository.findPending(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(message(1, 100, 9), message(2, 100, 0)));
+        when(outboxEventRepository.countParked()).thenReturn(1L);
+        List<Long> received = new ArrayList<>();
+        OutboxSubscriber subscriber = m -> {
+            if (m.eventId() == 1L) throw new IllegalStateException("down");
+            received.add(m.eventId());
+        };
+
+        relay(100, subscriber).drain();
+
+        assertThat(received).isEmpty(); // 2 는 parked 된 1 과 같은 애그리거트
+        verify(outboxEventRepository).markParked(eq(List.of(1L)), any());
+        verify(outboxEventRepository, never()).markFailed(anyCollection(), any());
+        assertThat(meterRegistry.get("app.outbox.parked").gauge().value()).isEqualTo(1);
+    }
+}
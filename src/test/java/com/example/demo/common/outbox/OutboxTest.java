@@ -0,0 +1,196 @@
+package com.example.demo.common.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 폴링은 테스트 설정(app.outbox.relay.enabled=false)으로 꺼 두고 drain() 을 직접 호출한다
+@SpringBootTest
+@AutoConfigureMockMvc
+class OutboxIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper om;
+    @Autowired
+    JdbcTemplate jdbc;
+    @Autowired
+    OutboxRelay outboxRelay;
+    @Autowired
+    RecordingOutboxSubscriber subscriber;
+    @Autowired
+    OutboxPurger outboxPurger;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Value("${app.outbox.max-attempts}")
+    int maxAttempts;
+
+    @AfterEach
+    void tearDown() {
+        subscriber.failing.clear();
+    }
+
+    private JsonNode json(RequestBuilder req) throws Exception {
+        return om.readTree(mockMvc.perform(req)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private JsonNode checkout(String email, boolean approve) throws Exception {
+        long memberId = json(post("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"아웃박스\",\"email\":\"" + email + "\"}")).get("memberId").asLong();
+        return json(post("/api/checkout").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"memberId\": " + memberId + ", \"amount\": 1234.5, \"method\": \"CARD\", \"approve\": " + approve + "}"));
+    }
+
+    private Integer pendingCount(long aggregateId) {
+        return jdbc.queryForObject(
+                "select count(*) from outbox_event where aggregate_id = ? and published_at is null", Integer.class, aggregateId);
+    }
+
+    @Test
+    @DisplayName("checkout(approve) → OrderCreated / PaymentApproved 가 같은 트랜잭션에 쌓이고, drain 후 구독자에 한 번씩 전달")
+    void events_are_written_and_relayed() throws Exception {
+        JsonNode res = checkout("outbox-1@test.com", true);
+        long orderId = res.get("order").get("orderId").asLong();
+        long paymentId = res.get("payment").get("paymentId").asLong();
+        assertThat(pendingCount(orderId)).isEqualTo(2); // 둘 다 주문 애그리거트
+
+        outboxRelay.drain();
+
+        List<OutboxMessage> created = subscriber.receivedFor("OrderCreated", orderId);
+        List<OutboxMessage> approved = subscriber.receivedFor("PaymentApproved", orderId);
+        assertThat(created).hasSize(1);
+        assertThat(approved).hasSize(1);
+        assertThat(created.get(0).eventId()).isLessThan(approved.get(0).eventId()); // 쌓인 순서대로
+        JsonNode payload = om.readTree(approved.get(0).payload());
+        assertThat(payload.get("paymentId").asLong()).isEqualTo(paymentId);
+        assertThat(payload.get("orderId").asLong()).isEqualTo(orderId);
+        assertThat(payload.get("method").asText()).isEqualTo("CARD");
+        assertThat(payload.get("amount").decimalValue()).isEqualByComparingTo("1234.50");
+        assertThat(pendingCount(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("OrderCreated 가 백오프 중이면 같은 주문의 PaymentApproved 도 보내지 않고, 풀리면 순서대로 전달")
+    void payment_event_waits_for_order_event() throws Exception {
+        long orderId = checkout("outbox-4@test.com", true).get("order").get("orderId").asLong();
+        subscriber.failing.add(orderId);
+
+        outboxRelay.drain();
+        subscriber.failing.clear();
+        outboxRelay.drain(); // OrderCreated 는 백오프 중
+
+        assertThat(subscriber.receivedFor("OrderCreated", orderId)).isEmpty();
+        assertThat(subscriber.receivedFor("PaymentApproved", orderId)).isEmpty();
+        assertThat(pendingCount(orderId)).isEqualTo(2);
+
+        jdbc.update("update outbox_event set next_attempt_at = dateadd('SECOND', -1, current_timestamp) where aggregate_id = ?",
+                orderId);
+        outboxRelay.drain();
+
+        List<OutboxMessage> created = subscriber.receivedFor("OrderCreated", orderId);
+        List<OutboxMessage> approved = subscriber.receivedFor("PaymentApproved", orderId);
+        assertThat(created).hasSize(1);
+        assertThat(approved).hasSize(1);
+        assertThat(created.get(0).eventId()).isLessThan(approved.get(0).eventId());
+    }
+
+    @Test
+    @DisplayName("구독자 실패 → 미전달로 남고 attempts 증가, 백오프가 지난 뒤 drain 에서 전달 (at-least-once)")
+    void failed_delivery_is_retried() throws Exception {
+        long orderId = checkout("outbox-2@test.com", false).get("order").get("orderId").asLong();
+        subscriber.failing.add(orderId);
+
+        outboxRelay.drain();
+
+        assertThat(subscriber.receivedFor("OrderCreated", orderId)).isEmpty();
+        assertThat(pendingCount(orderId)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("select attempts from outbox_event where aggregate_id = ?", Integer.class, orderId))
+                .isEqualTo(1);
+
+        // 백오프 중에는 구독자가 복구돼도 다시 보내지 않는다
+        subscriber.failing.clear();
+        outboxRelay.drain();
+        assertThat(subscriber.receivedFor("OrderCreated", orderId)).isEmpty();
+
+        jdbc.update("update outbox_event set next_attempt_at = dateadd('SECOND', -1, current_timestamp) where aggregate_id = ?",
+                orderId);
+        outboxRelay.drain();
+
+        assertThat(subscriber.receivedFor("OrderCreated", orderId)).hasSize(1);
+        assertThat(pendingCount(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("max-attempts 번째 실패 → parked 로 남고 같은 애그리거트의 뒤 이벤트도 전달하지 않는다")
+    void exhausted_event_is_parked_and_blocks_aggregate() throws Exception {
+        long orderId = checkout("outbox-3@test.com", false).get("order").get("orderId").asLong();
+        long eventId = jdbc.queryForObject("select event_id from outbox_event where aggregate_id = ?", Long.class, orderId);
+        // 같은 애그리거트의 뒤 이벤트
+        jdbc.update("""
+                insert into outbox_event (event_id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts)
+                select max(event_id) + 1, 'ORDER', ?, 'OrderTest', '{}', current_timestamp, 0 from outbox_event
+                """, orderId);
+        jdbc.update("update outbox_event set attempts = ? where event_id = ?", maxAttempts - 1, eventId);
+        subscriber.failing.add(orderId);
+
+        outboxRelay.drain();
+
+        assertThat(jdbc.queryForObject("select parked_at is not null from outbox_event where event_id = ?",
+                Boolean.class, eventId)).isTrue();
+        assertThat(meterRegistry.get("app.outbox.parked").gauge().value()).isGreaterThanOrEqualTo(1);
+
+        subscriber.failing.clear();
+        outboxRelay.drain();
+
+        assertThat(subscriber.receivedFor("OrderTest", orderId)).isEmpty();
+        assertThat(pendingCount(orderId)).isEqualTo(2);
+
+        // 수동 처리: parked 를 풀면 순서대로 전달
+        jdbc.update("update outbox_event set parked_at = null, attempts = 0 where event_id = ?", eventId);
+        outboxRelay.drain();
+
+        assertThat(subscriber.receivedFor("OrderCreated", orderId)).hasSize(1);
+        assertThat(subscriber.receivedFor("OrderTest", orderId)).hasSize(1);
+        assertThat(pendingCount(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("purge: retention 이 지난 전달 완료 이벤트만 지우고, 최근 전달 / 미전달 / parked 는 남긴다")
+    void purge_removes_only_old_published() throws Exception {
+        long orderId = checkout("outbox-5@test.com", true).get("order").get("orderId").asLong();
+        outboxRelay.drain();
+        long old = jdbc.queryForObject("select min(event_id) from outbox_event where aggregate_id = ?", Long.class, orderId);
+        long recent = jdbc.queryForObject("select max(event_id) from outbox_event where aggregate_id = ?", Long.class, orderId);
+        jdbc.update("update outbox_event set published_at = dateadd('DAY', -8, current_timestamp) where event_id = ?", old);
+        long pendingOrder = checkout("outbox-6@test.com", false).get("order").get("orderId").asLong();
+        jdbc.update("update outbox_event set created_at = dateadd('DAY', -30, current_timestamp), "
+                + "parked_at = dateadd('DAY', -30, current_timestamp) where aggregate_id = ?", pendingOrder);
+
+        assertThat(outboxPurger.purge()).isGreaterThanOrEqualTo(1);
+
+        assertThat(jdbc.queryForObject("select count(*) from outbox_event where event_id = ?", Integer.class, old)).isZero();
+        assertThat(jdbc.queryForObject("select count(*) from outbox_event where event_id = ?", Integer.class, recent)).isEqualTo(1);
+        assertThat(pendingCount(pendingOrder)).isEqualTo(1);
+        jdbc.update("update outbox_event set parked_at = null where aggregate_id = ?", pendingOrder);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.common.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 구독자: 받은 이벤트를 기록하고, failing 에 든 애그리거트는 예외로 거절한다.
+ */
+@Component
+public class RecordingOutboxSubscriber implements OutboxSubscriber {
+    final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+    final Set<Long> failing = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onEvent(OutboxMessage message) {
+        if (failing.contains(message.aggregateId())) throw new IllegalStateException("subscriber down");
+        received.add(message);
+    }
+
+    List<OutboxMessage> receivedFor(String eventType, long aggregateId) {
+        return received.stream()
+                .filter(m -> m.eventType().equals(eventType) && m.aggregateId() == aggregateId)
+                .toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberRateLimiterTest {
+
+    static final long SECOND = 1_000_000_000L;
+
+    AtomicLong now = new AtomicLong();
+    MemberRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now.set(10 * SECOND);
+        limiter = new MemberRateLimiter(true, 1_000, Duration.ofMinutes(10), now::get)
+                .limit(RateLimitScope.ORDER_CREATE, 2, 5)      // 0.5초마다 1개, 최대 5개
+                .limit(RateLimitScope.PAYMENT_REQUEST, 1, 1);
+    }
+
+    @Test
+    @DisplayName("burst 만큼은 한 번에 통과, 그다음은 다음 토큰까지 남은 시간과 함께 거절")
+    void burst_then_reject() {
+        for (int i = 0; i < 5; i++) limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+
+        assertThatThrownBy(() -> limiter.acquire(RateLimitScope.ORDER_CREATE, 1L))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getRetryAfter()).isEqualTo(Duration.ofMillis(500));
+                    assertThat(e.retryAfterSeconds()).isEqualTo(1); // 헤더는 초 단위 올림
+                });
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 per-second 비율로 다시 채워진다 (burst 를 넘지 않음)")
+    void refill() {
+        for (int i = 0; i < 5; i++) limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+
+        now.addAndGet(SECOND); // 토큰 2개
+        limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+        limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+        assertThatThrownBy(() -> limiter.acquire(RateLimitScope.ORDER_CREATE, 1L))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        now.addAndGet(60 * SECOND); // 오래 쉬어도 burst 까지만
+        for (int i = 0; i < 5; i++) limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+        assertThatThrownBy(() -> limiter.acquire(RateLimitScope.ORDER_CREATE, 1L))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("acquireEach: 한 회원이라도 모자라면 앞 회원들의 토큰을 돌려주고 거절")
+    void acquire_each_refunds_on_reject() {
+        limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 3L); // 회원 3 은 비어 있음
+
+        assertThatThrownBy(() -> limiter.acquireEach(RateLimitScope.PAYMENT_REQUEST, List.of(1L, 2L, 3L)))
+                .isInstanceOf(RateLimitExceededException.class);
+        // 1, 2 는 토큰을 돌려받았다
+        assertThatCode(() -> {
+            limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L);
+            limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 2L);
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("acquireAll: 뒤 버킷이 모자라면 앞 버킷 토큰을 돌려주고 거절")
+    void acquire_all_refunds_on_reject() {
+        limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L);
+        for (int i = 0; i < 4; i++) limiter.acquire(RateLimitScope.ORDER_CREATE, 1L); // 주문 토큰 1개 남음
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> limiter.acquireAll(1L, RateLimitScope.ORDER_CREATE, RateLimitScope.PAYMENT_REQUEST))
+                    .isInstanceOf(RateLimitExceededException.class);
+        }
+        // 거절된 체크아웃은 주문 토큰을 쓰지 않았다
+        limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+        assertThatThrownBy(() -> limiter.acquire(RateLimitScope.ORDER_CREATE, 1L))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("돌려받은 토큰은 burst 를 넘는 여유를 만들지 않는다")
+    void refund_never_exceeds_burst() {
+        limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L);
+        now.addAndGet(60 * SECOND); // TAT 가 과거인 상태에서 돌려받아도
+        assertThatThrownBy(() -> limiter.acquireEach(RateLimitScope.PAYMENT_REQUEST, List.of(1L, 1L)))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L);
+        assertThatThrownBy(() -> limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("버킷은 회원 x 엔드포인트별로 따로")
+    void buckets_are_per_member_and_scope() {
+        limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L);
+        assertThatThrownBy(() -> limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 1L))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        assertThatCode(() -> {
+            limiter.acquire(RateLimitScope.PAYMENT_REQUEST, 2L);
+            limiter.acquire(RateLimitScope.ORDER_CREATE, 1L);
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("disabled 이거나 memberId 가 없으면 제한하지 않는다")
+    void disabled_or_unknown_member() {
+        MemberRateLimiter off = new MemberRateLimiter(false, 1_000, Duration.ofMinutes(10), now::get)
+                .limit(RateLimitScope.PAYMENT_REQUEST, 1, 1);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                off.acquire(RateLimitScope.PAYMENT_REQUEST, 1L);
+                limiter.acquire(RateLimitScope.PAYMENT_REQUEST, null);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("동시 요청: 시간이 멈춰 있으면 정확히 burst 건만 통과 (CAS 경합에서도 초과 허용 없음)")
+    void concurrent_acquire_never_exceeds_burst() throws Exception {
+        int threads = 64;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < 100; i++) {
+                            try {
+                                limiter.acquire(RateLimitScope.ORDER_CREATE, 7L);
+                                allowed.incrementAndGet();
+                            } catch (RateLimitExceededException ignored) {
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(allowed.get()).isEqualTo(5);
+    }
+}
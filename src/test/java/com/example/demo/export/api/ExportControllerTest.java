@@ -0,0 +1,91 @@
+package com.example.demo.export.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper om;
+
+    private long createPaidOrder(String email) throws Exception {
+        long memberId = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"name\":\"내보내기\",\"email\":\"%s\"}", email)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+        long orderId = om.readTree(mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"memberId\": %d, \"amount\": 1234.5}", memberId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("orderId").asLong();
+        mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"orderId\": %d, \"amount\": 1234.5, \"method\": \"CARD\"}", orderId)))
+                .andExpect(status().isOk());
+        return orderId;
+    }
+
+    private String export(String path, String format) throws Exception {
+        MvcResult started = mockMvc.perform(get(path).param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    @DisplayName("GET /api/exports/orders?format=ndjson → 한 줄에 주문 하나씩")
+    void export_orders_ndjson() throws Exception {
+        long orderId = createPaidOrder("export+ndjson@test.com");
+
+        String body = export("/api/exports/orders", "ndjson");
+
+        String line = body.lines()
+                .filter(l -> l.contains("\"orderId\":\"" + orderId + "\""))
+                .findFirst().orElseThrow();
+        assertThat(om.readTree(line).get("amount").asDouble()).isEqualTo(1234.5);
+        assertThat(body.lines()).allSatisfy(l -> assertThat(l).startsWith("{").endsWith("}"));
+    }
+
+    @Test
+    @DisplayName("GET /api/exports/payments?format=csv → 헤더 + 결제 행")
+    void export_payments_csv() throws Exception {
+        long orderId = createPaidOrder("export+csv@test.com");
+
+        String body = export("/api/exports/payments", "csv");
+
+        assertThat(body.lines().findFirst()).contains("paymentId,orderId,status,method,amount,approvedAt");
+        assertThat(body.lines()).anySatisfy(l -> assertThat(l).contains("," + orderId + ",REQUESTED,CARD,1234.50,"));
+    }
+
+    @Test
+    @DisplayName("GET /api/exports/orders?format=xml → 400")
+    void export_unsupported_format() throws Exception {
+        mockMvc.perform(get("/api/exports/orders").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("unsupported export format: xml"));
+    }
+}
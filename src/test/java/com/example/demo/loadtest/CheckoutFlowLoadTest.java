@@ -0,0 +1,186 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 가입 → 주문 → 결제 요청 → 승인 → 조회 흐름을 고정 도착률(열린 모델)로 돌리는 부하 테스트.
+ * <p>
+ * 흐름은 1/rate 간격의 예정 시각에 시작하고, 첫 요청 지연은 실제 전송 시각이 아닌 예정 시각부터 잰다.
+ * 서버가 밀려 동시 흐름 상한(concurrency)에 걸려도 대기 시간이 지연에 포함된다 (coordinated omission 보정).
+ * <p>
+ * 실행: {@code ./gradlew loadTest --tests '*CheckoutFlowLoadTest' -Ploadtest.rate=200 -Ploadtest.concurrency=64}
+ * 결과: build/reports/loadtest/checkout-flow.json (엔드포인트별 처리량, p50/p95/p99/p999)
+ */
+@Tag("benchmark")
+class CheckoutFlowLoadTest {
+
+    final int rate = LoadReport.intProperty("loadtest.rate", 100);                 // 초당 흐름 수
+    final int concurrency = LoadReport.intProperty("loadtest.concurrency", 64);    // 동시 진행 흐름 상한
+    final int warmupSeconds = LoadReport.intProperty("loadtest.warmupSeconds", 5);
+    final int durationSeconds = LoadReport.intProperty("loadtest.durationSeconds", 20);
+    final int readsPerFlow = LoadReport.intProperty("loadtest.readsPerFlow", 1);   // 흐름마다 GET 묶음 반복 횟수
+    final String profiles = System.getProperty("loadtest.profiles", "");
+
+    final ObjectMapper om = new ObjectMapper();
+    final AtomicLong emailSeq = new AtomicLong();
+
+    @Test
+    @DisplayName("checkout 흐름 고정 도착률 부하")
+    void checkout_flow() throws Exception {
+        SpringApplicationBuilder app = LoadHttp.app("checkout-load");
+        if (!profiles.isBlank()) app.profiles(profiles.split(","));
+
+        try (ConfigurableApplicationContext ctx = app.run();
+             ExecutorService flows = Executors.newVirtualThreadPerTaskExecutor()) {
+            String base = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(flows)
+                    .build();
+
+            drive(client, base, flows, warmupSeconds);
+            Stats stats = drive(client, base, flows, durationSeconds);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("rate", rate);
+            report.put("concurrency", concurrency);
+            report.put("durationSeconds", durationSeconds);
+            report.put("readsPerFlow", readsPerFlow);
+            report.put("profiles", profiles);
+            report.put("flowsStarted", stats.flows);
+            report.put("flowsFailed", stats.failedFlows.get());
+            report.put("elapsedSeconds", stats.elapsedSeconds);
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            stats.byEndpoint.forEach((name, rec) -> endpoints.put(name, LoadReport.summary(rec, stats.elapsedSeconds)));
+            report.put("endpoints", endpoints);
+
+            Path file = LoadReport.write("checkout-flow", report);
+            System.out.println("loadtest report → " + file.toAbsolutePath());
+            System.out.println(om.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+
+            assertThat(stats.flows).isPositive();
+        }
+    }
+
+    private Stats drive(HttpClient client, String base, ExecutorService flows, int seconds) throws InterruptedException {
+        Stats stats = new Stats();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            inFlight.acquire(); // 상한에 걸리면 여기서 밀리지만 지연은 intended 기준이라 그대로 잡힌다
+            long scheduledAt = intended;
+            stats.flows++;
+            flows.execute(() -> {
+                try {
+                    if (!flow(client, base, stats, scheduledAt)) stats.failedFlows.incrementAndGet();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(concurrency); // 진행 중인 흐름 마무리
+        stats.elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return stats;
+    }
+
+    private boolean flow(HttpClient client, String base, Stats stats, long scheduledAt) {
+        long n = emailSeq.incrementAndGet();
+        String member = stats.call(client, "POST /api/members", scheduledAt, LoadHttp.post(base + "/api/members",
+                String.format("{\"name\":\"부하%d\",\"email\":\"checkout-%d@test.com\"}", n, n)));
+        if (member == null) return false;
+        long memberId = id(member, "memberId");
+
+        String order = stats.call(client, "POST /api/orders", System.nanoTime(), LoadHttp.post(base + "/api/orders",
+                "{\"memberId\": " + memberId + ", \"amount\": 10000}"));
+        if (order == null) return false;
+        long orderId = id(order, "orderId");
+
+        String payment = stats.call(client, "POST /api/payments", System.nanoTime(), LoadHttp.post(base + "/api/payments",
+                "{\"orderId\": " + orderId + ", \"amount\": 10000, \"method\": \"CARD\"}"));
+        if (payment == null) return false;
+        long paymentId = id(payment, "paymentId");
+
+        if (stats.call(client, "POST /api/payments/{id}/approve", System.nanoTime(),
+                LoadHttp.post(base + "/api/payments/" + paymentId + "/approve")) == null) return false;
+
+        boolean ok = true;
+        for (int i = 0; i < readsPerFlow; i++) {
+            ok &= stats.call(client, "GET /api/members/{id}", System.nanoTime(),
+                    LoadHttp.get(base + "/api/members/" + memberId)) != null;
+            ok &= stats.call(client, "GET /api/orders/{id}", System.nanoTime(),
+                    LoadHttp.get(base + "/api/orders/" + orderId)) != null;
+            ok &= stats.call(client, "GET /api/payments/{id}", System.nanoTime(),
+                    LoadHttp.get(base + "/api/payments/" + paymentId)) != null;
+            ok &= stats.call(client, "GET /api/members/{id}/orders", System.nanoTime(),
+                    LoadHttp.get(base + "/api/members/" + memberId + "/orders")) != null;
+        }
+        return ok;
+    }
+
+    private long id(String body, String field) {
+        try {
+            return om.readTree(body).get(field).asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 엔드포인트별 지연 기록. 가상 스레드를 고정시키지 않도록 synchronized 대신 ReentrantLock */
+    static class Stats {
+        final Map<String, LatencyRecorder> byEndpoint = new TreeMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        final AtomicLong failedFlows = new AtomicLong();
+        long flows;
+        double elapsedSeconds;
+
+        String call(HttpClient client, String endpoint, long startedAt, HttpRequest req) {
+            String body = null;
+            boolean ok;
+            try {
+                HttpResponse<String> res = client.send(req, HttpResponse.BodyHandlers.ofString());
+                ok = res.statusCode() == 200;
+                if (ok) body = res.body();
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - startedAt;
+
+            lock.lock();
+            try {
+                LatencyRecorder rec = byEndpoint.computeIfAbsent(endpoint, k -> new LatencyRecorder());
+                rec.record(elapsed);
+                if (!ok) rec.error();
+            } finally {
+                lock.unlock();
+            }
+            return body;
+        }
+    }
+}
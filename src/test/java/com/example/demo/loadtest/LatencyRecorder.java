@@ -0,0 +1,55 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 요청 지연(나노초) 기록. 워커마다 하나씩 쓰고 끝나면 merge 한다 (잠금 없음).
+ */
+public class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int size;
+    private int errors;
+    private boolean sorted;
+
+    public void record(long nanos) {
+        if (size == samples.length) samples = Arrays.copyOf(samples, size * 2);
+        samples[size++] = nanos;
+        sorted = false;
+    }
+
+    public void error() {
+        errors++;
+    }
+
+    public LatencyRecorder merge(LatencyRecorder other) {
+        if (size + other.size > samples.length) samples = Arrays.copyOf(samples, size + other.size);
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+        sorted = false;
+        return this;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public int errors() {
+        return errors;
+    }
+
+    /** nearest-rank 백분위수, 밀리초 */
+    public double percentileMillis(double p) {
+        if (size == 0) return 0;
+        if (!sorted) {
+            Arrays.sort(samples, 0, size);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * size);
+        return samples[Math.max(0, Math.min(size - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return percentileMillis(100);
+    }
+}
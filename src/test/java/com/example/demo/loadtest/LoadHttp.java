@@ -0,0 +1,45 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * 부하 테스트 공통: 랜덤 포트 앱 기동 설정과 요청 빌더.
+ */
+public final class LoadHttp {
+
+    private LoadHttp() {
+    }
+
+    /** 임베디드 H2(db 이름별 격리), 랜덤 포트, SQL 로그 off, 회원별 요청 제한 off (소수 회원으로 부하를 건다) */
+    public static SpringApplicationBuilder app(String dbName) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + dbName,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "app.rate-limit.enabled=false");
+    }
+
+    public static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    public static HttpRequest post(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    public static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+}
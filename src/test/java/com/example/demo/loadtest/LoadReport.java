@@ -0,0 +1,49 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과를 build/reports/loadtest/{name}.json 으로 남긴다 (loadTest 태스크가 경로를 넘겨준다).
+ */
+public final class LoadReport {
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadReport() {
+    }
+
+    public static Map<String, Object> summary(LatencyRecorder latencies, double elapsedSeconds) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("requests", latencies.count());
+        m.put("errors", latencies.errors());
+        m.put("throughputPerSec", round(latencies.count() / elapsedSeconds));
+        m.put("p50Ms", round(latencies.percentileMillis(50)));
+        m.put("p95Ms", round(latencies.percentileMillis(95)));
+        m.put("p99Ms", round(latencies.percentileMillis(99)));
+        m.put("p999Ms", round(latencies.percentileMillis(99.9)));
+        m.put("maxMs", round(latencies.maxMillis()));
+        return m;
+    }
+
+    public static Path write(String name, Object report) throws IOException {
+        Path dir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve(name + ".json");
+        JSON.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    static int intProperty(String key, int defaultValue) {
+        return Integer.getInteger(key, defaultValue);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+}
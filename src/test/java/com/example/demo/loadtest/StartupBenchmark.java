@@ -0,0 +1,139 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 기동 모드별로 앱을 별도 JVM 으로 띄워, 프로세스 시작부터 GET /api/members/1 이 처음 200 을 줄 때까지 잰다.
+ * lazy 초기화는 비용을 첫 요청으로 미루므로 "기동 로그의 Started" 가 아니라 첫 성공 응답까지를 본다.
+ * 실행: {@code ./gradlew startupBenchmark [-Pstartup.runs=10]} (bootJar → cdsTrain 이 먼저 돈다)
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    static final long MEMBER_ID = 1L;
+
+    final int runs = LoadReport.intProperty("startup.runs", 5);
+    final int timeoutSeconds = LoadReport.intProperty("startup.timeoutSeconds", 120);
+
+    final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    @DisplayName("기본 / fast-start / +AOT / +AOT+CDS 첫 응답까지 시간 비교")
+    void compare() throws Exception {
+        String jar = System.getProperty("startup.jar");
+        assumeTrue(jar != null && Files.isRegularFile(Path.of(jar)), "startup.jar 없음 → ./gradlew startupBenchmark 로 실행");
+        String archive = System.getProperty("startup.cdsArchive");
+        String seedDir = System.getProperty("startup.seedDir");
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        modes.put("fast-start", List.of("-Dspring.profiles.active=fast-start"));
+        modes.put("fast-start+aot", List.of("-Dspring.profiles.active=fast-start", "-Dspring.aot.enabled=true"));
+        if (archive != null && Files.isRegularFile(Path.of(archive))) {
+            modes.put("fast-start+aot+cds", List.of("-Dspring.profiles.active=fast-start", "-Dspring.aot.enabled=true",
+                    "-XX:SharedArchiveFile=" + archive));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runs", runs);
+        for (var mode : modes.entrySet()) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToFirstResponse(mode.getKey(), mode.getValue(), jar, seedDir);
+            }
+            report.put(mode.getKey(), summary(millis));
+        }
+
+        Path file = LoadReport.write("startup", report);
+        System.out.println("startup report → " + file.toAbsolutePath());
+        System.out.println(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    private long timeToFirstResponse(String mode, List<String> jvmArgs, String jar, String seedDir) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar,
+                "--server.port=" + port,
+                "--spring.flyway.locations=classpath:db/migration,filesystem:" + seedDir,
+                "--spring.jpa.show-sql=false"));
+        Path log = Files.createTempFile("startup-" + mode.replace('+', '-') + "-", ".log");
+
+        URI uri = URI.create("http://localhost:" + port + "/api/members/" + MEMBER_ID);
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = started + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (System.nanoTime() < deadline) {
+                if (firstOk(uri)) {
+                    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    Files.deleteIfExists(log); // 실패한 경우에만 로그를 남긴다
+                    return millis;
+                }
+                assertThat(process.isAlive()).as("%s 모드 프로세스 종료, 로그: %s", mode, log).isTrue();
+                Thread.sleep(5);
+            }
+            throw new AssertionError(mode + " 모드가 " + timeoutSeconds + "초 안에 응답하지 않음, 로그: " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    }
+
+    // 포트가 아직 열리지 않았으면 연결 실패 → false
+    private boolean firstOk(URI uri) throws InterruptedException {
+        try {
+            HttpResponse<Void> res = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return res.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, Object> summary(long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("minMs", sorted[0]);
+        m.put("medianMs", sorted[sorted.length / 2]);
+        m.put("maxMs", sorted[sorted.length - 1]);
+        m.put("samplesMs", millis);
+        return m;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 풀) vs 가상 스레드(virtual 프로파일) 처리량/p99 비교.
+ * 같은 JVM 에서 모드별로 앱을 새로 띄우고, 닫힌 루프 클라이언트가 주문 생성 → 조회를 반복한다.
+ * 실행: {@code ./gradlew loadTest [-Ploadtest.concurrency=400 -Ploadtest.durationSeconds=30]}
+ */
+@Tag("benchmark")
+class ThreadModeLoadBenchmark {
+
+    static final int MEMBERS = 100;
+
+    final int concurrency = LoadReport.intProperty("loadtest.concurrency", 400);
+    final int warmupSeconds = LoadReport.intProperty("loadtest.warmupSeconds", 5);
+    final int durationSeconds = LoadReport.intProperty("loadtest.durationSeconds", 20);
+
+    final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    @DisplayName("플랫폼 스레드 vs 가상 스레드 부하 비교")
+    void compare() throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", durationSeconds);
+        report.put("platform", run(false));
+        report.put("virtual", run(true));
+
+        Path file = LoadReport.write("thread-mode", report);
+        System.out.println("loadtest report → " + file.toAbsolutePath());
+        System.out.println(om.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    private Map<String, Object> run(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        SpringApplicationBuilder app = LoadHttp.app("load-" + mode);
+        if (virtual) app.profiles("virtual");
+
+        try (ConfigurableApplicationContext ctx = app.run();
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            String base = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(workers)
+                    .build();
+            long[] memberIds = seedMembers(client, base, mode);
+
+            drive(client, base, memberIds, workers, warmupSeconds);
+            long started = System.nanoTime();
+            LatencyRecorder latencies = drive(client, base, memberIds, workers, durationSeconds);
+            double elapsed = (System.nanoTime() - started) / 1e9;
+
+            assertThat(latencies.count()).isPositive();
+            Map<String, Object> summary = LoadReport.summary(latencies, elapsed);
+            summary.put("virtualThreads", ctx.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"));
+            return summary;
+        }
+    }
+
+    private long[] seedMembers(HttpClient client, String base, String mode) throws Exception {
+        long[] ids = new long[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            String body = String.format("{\"name\":\"부하%d\",\"email\":\"load-%s-%d@test.com\"}", i, mode, i);
+            HttpResponse<String> res = client.send(LoadHttp.post(base + "/api/members", body), HttpResponse.BodyHandlers.ofString());
+            ids[i] = om.readTree(res.body()).get("memberId").asLong();
+        }
+        return ids;
+    }
+
+    // 닫힌 루프: 워커 하나가 응답을 받아야 다음 요청을 보낸다
+    private LatencyRecorder drive(HttpClient client, String base, long[] memberIds,
+                                  ExecutorService workers, int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<LatencyRecorder>> futures = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            futures.add(workers.submit(() -> {
+                LatencyRecorder rec = new LatencyRecorder();
+                while (System.nanoTime() < deadline) {
+                    long memberId = memberIds[ThreadLocalRandom.current().nextInt(memberIds.length)];
+                    String created = call(client, rec,
+                            LoadHttp.post(base + "/api/orders", "{\"memberId\": " + memberId + ", \"amount\": 10000}"));
+                    if (created == null) continue;
+                    long orderId = om.readTree(created).get("orderId").asLong();
+                    call(client, rec, LoadHttp.get(base + "/api/orders/" + orderId));
+                }
+                return rec;
+            }));
+        }
+        LatencyRecorder all = new LatencyRecorder();
+        for (Future<LatencyRecorder> f : futures) all.merge(f.get());
+        return all;
+    }
+
+    private static String call(HttpClient client, LatencyRecorder rec, HttpRequest req) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> res = client.send(req, HttpResponse.BodyHandlers.ofString());
+            rec.record(System.nanoTime() - start);
+            if (res.statusCode() != 200) {
+                rec.error();
+                return null;
+            }
+            return res.body();
+        } catch (Exception e) {
+            rec.error();
+            return null;
+        }
+    }
+}
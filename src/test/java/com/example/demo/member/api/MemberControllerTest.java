@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -15,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,6 +30,17 @@ class MemberControllerIntegrationTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private JsonNode postJson(String url, String body) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
     @Test
     @DisplayName("POST /api/members → 200, 반환된 id로 GET /api/members/{id} 성공")
     void create_then_get_member_success() throws Exception {
@@ -44,7 +57,7 @@ class MemberControllerIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.memberId").exists())
+                .andExpect(jsonPath("$.memberId").isString()) // 2^53 초과 ID → 문자열 (JsonStringId)
                 .andExpect(jsonPath("$.name").value("홍길동"))
                 .andExpect(jsonPath("$.email").value("hong@test.com"))
                 .andReturn();
@@ -57,7 +70,7 @@ class MemberControllerIntegrationTest {
 
         mockMvc.perform(get("/api/members/{id}", id))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.memberId").value(id))
+                .andExpect(jsonPath("$.memberId").value(String.valueOf(id)))
                 .andExpect(jsonPath("$.name").value("홍길동"))
                 .andExpect(jsonPath("$.email").value("hong@test.com"));
     }
@@ -94,4 +107,109 @@ class MemberControllerIntegrationTest {
                 .andExpect(status().isNotFound())                 // ✅ 404
                 .andExpect(jsonPath("$.message").value("member not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/members/{id}/stats → 주문 생성 / 승인 / checkout 이 같은 트랜잭션에서 반영")
+    void stats_follow_orders_and_payments() throws Exception {
+        long memberId = postJson("/api/members", "{\"name\":\"통계\",\"email\":\"stats@test.com\"}")
+                .get("memberId").asLong();
+        mockMvc.perform(get("/api/members/{id}/stats", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(0))
+                .andExpect(jsonPath("$.paidAmount").value(0.0));
+
+        long orderId = postJson("/api/orders", String.format("{\"memberId\": %d, \"amount\": 1000}", memberId))
+                .get("orderId").asLong();
+        postJson("/api/orders/batch", String.format("[{\"memberId\": %d, \"amount\": 2000}]", memberId));
+        long paymentId = postJson("/api/payments",
+                String.format("{\"orderId\": %d, \"amount\": 1000, \"method\": \"CARD\"}", orderId))
+                .get("paymentId").asLong();
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)).andExpect(status().isOk());
+        postJson("/api/checkout",
+                String.format("{\"memberId\": %d, \"amount\": 500.5, \"method\": \"CARD\", \"approve\": true}", memberId));
+
+        mockMvc.perform(get("/api/members/{id}/stats", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(String.valueOf(memberId)))
+                .andExpect(jsonPath("$.orderCount").value(3))
+                .andExpect(jsonPath("$.paidCount").value(2))
+                .andExpect(jsonPath("$.paidAmount").value(1500.5));
+    }
+
+    @Test
+    @DisplayName("통계 행이 없는 회원도 주문 / 승인 / 일괄 승인 증분이 행을 만들며 반영된다")
+    void stats_upsert_when_row_missing() throws Exception {
+        long memberId = postJson("/api/members", "{\"name\":\"통계없음\",\"email\":\"stats+missing@test.com\"}")
+                .get("memberId").asLong();
+        jdbc.update("delete from member_stats where member_id = ?", memberId);
+
+        long orderId = postJson("/api/orders", String.format("{\"memberId\": %d, \"amount\": 1000}", memberId))
+                .get("orderId").asLong();
+        long paymentId = postJson("/api/payments",
+                String.format("{\"orderId\": %d, \"amount\": 1000, \"method\": \"CARD\"}", orderId))
+                .get("paymentId").asLong();
+        mockMvc.perform(get("/api/members/{id}/stats", memberId))
+                .andExpect(jsonPath("$.orderCount").value(1));
+
+        jdbc.update("delete from member_stats where member_id = ?", memberId);
+        postJson("/api/payments/approve-batch", String.format("{\"paymentIds\": [%d]}", paymentId));
+
+        mockMvc.perform(get("/api/members/{id}/stats", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(0))
+                .andExpect(jsonPath("$.paidCount").value(1))
+                .andExpect(jsonPath("$.paidAmount").value(1000.0));
+
+        postJson("/api/orders", String.format("{\"memberId\": %d, \"amount\": 500}", memberId));
+        mockMvc.perform(get("/api/members/{id}/stats", memberId))
+                .andExpect(jsonPath("$.orderCount").value(1))
+                .andExpect(jsonPath("$.paidCount").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/members/stats/rebuild → 어긋난 통계를 orders 에서 다시 집계")
+    void stats_rebuild_repairs_drift() throws Exception {
+        long memberId = postJson("/api/members", "{\"name\":\"재집계\",\"email\":\"stats+rebuild@test.com\"}")
+                .get("memberId").asLong();
+        postJson("/api/checkout",
+                String.format("{\"memberId\": %d, \"amount\": 700, \"method\": \"CARD\", \"approve\": true}", memberId));
+        jdbc.update("update member_stats set order_count = 99, paid_amount = 0 where member_id = ?", memberId);
+
+        JsonNode rebuilt = postJson("/api/members/stats/rebuild", "");
+        assertThat(rebuilt.get("members").asLong()).isPositive();
+
+        mockMvc.perform(get("/api/members/{id}/stats", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(1))
+                .andExpect(jsonPath("$.paidCount").value(1))
+                .andExpect(jsonPath("$.paidAmount").value(700.0));
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/stats 없는 회원 → 404")
+    void stats_member_not_found() throws Exception {
+        mockMvc.perform(get("/api/members/{id}/stats", 999_999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("member not found"));
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id} → 버전 ETag, If-None-Match 가 같으면 304 (본문 없음)")
+    void get_member_conditional() throws Exception {
+        long memberId = postJson("/api/members", "{\"name\":\"이태그\",\"email\":\"etag+member@test.com\"}")
+                .get("memberId").asLong();
+
+        String etag = mockMvc.perform(get("/api/members/{id}", memberId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/members/{id}", memberId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(result -> assertThat(result.getResponse().getContentAsByteArray()).isEmpty());
+        mockMvc.perform(get("/api/members/{id}", memberId).header("If-None-Match", "\"99\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(String.valueOf(memberId)));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.demo.member.api.dto.MemberCreateRequest;
 import com.example.demo.member.api.dto.MemberResponse;
 import com.example.demo.member.domain.Member;
 import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.member.repository.MemberStatsRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +23,8 @@ class MemberServiceTest {
 
     @Mock
     MemberRepository memberRepository;
+    @Mock
+    MemberStatsRepository memberStatsRepository;
 
     @InjectMocks
     MemberService memberService;
@@ -50,6 +53,7 @@ class MemberServiceTest {
         assertThat(res.getEmail()).isEqualTo("hong@test.com");
         verify(memberRepository).findByEmail("hong@test.com");
         verify(memberRepository).save(any(Member.class));
+        verify(memberStatsRepository).insertEmpty(1L); // 통계 행도 같은 트랜잭션에서
     }
 
     @Test
@@ -103,19 +107,26 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("getDto: Member를 조회해 MemberResponse로 매핑")
+    @DisplayName("getDto: 엔티티 없이 MemberResponse 프로젝션으로 조회")
     void getDto_success() {
-        Member entity = Member.builder()
-                .MemberId(5L)
-                .name("홍길동")
-                .email("hong@test.com")
-                .build();
-        when(memberRepository.findById(5L)).thenReturn(Optional.of(entity));
+        when(memberRepository.findResponseById(5L))
+                .thenReturn(Optional.of(new MemberResponse(5L, "홍길동", "hong@test.com")));
 
         MemberResponse res = memberService.getDto(5L);
 
         assertThat(res.getMemberId()).isEqualTo(5L);
         assertThat(res.getName()).isEqualTo("홍길동");
         assertThat(res.getEmail()).isEqualTo("hong@test.com");
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getDto: 존재하지 않으면 IllegalArgumentException 발생")
+    void getDto_notFound_throws() {
+        when(memberRepository.findResponseById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> memberService.getDto(99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("member not found");
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.example.demo.member.service;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.member.api.dto.MemberResponse;
+import com.example.demo.member.api.dto.MemberStatsRebuildResponse;
+import com.example.demo.member.api.dto.MemberStatsResponse;
+import com.example.demo.member.repository.MemberRepository;
+import com.example.demo.member.repository.MemberStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatsServiceTest {
+
+    @Mock
+    MemberStatsRepository memberStatsRepository;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    MemberService memberService;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    MemberStatsService memberStatsService;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 작업을 호출 스레드에서 바로 실행
+        memberStatsService = new MemberStatsService(memberStatsRepository, memberRepository, memberService,
+                txManager, new TaskExecutorAdapter(Runnable::run));
+    }
+
+    @Test
+    @DisplayName("get: 통계 행이 있으면 PK 한 건 조회 결과 그대로")
+    void get_found() {
+        when(memberStatsRepository.findResponseById(1L))
+                .thenReturn(Optional.of(new MemberStatsResponse(1L, 3, 2, 1_500_00L)));
+
+        MemberStatsResponse res = memberStatsService.get(1L);
+
+        assertThat(res.getOrderCount()).isEqualTo(3);
+        assertThat(res.getPaidCount()).isEqualTo(2);
+        assertThat(res.getPaidAmount()).isEqualTo(Money.of(1500));
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    @DisplayName("get: 통계 행이 없으면 회원 존재 확인 후 0, 없는 회원이면 'member not found'")
+    void get_missing_row() {
+        when(memberStatsRepository.findResponseById(anyLong())).thenReturn(Optional.empty());
+        when(memberService.getDto(1L)).thenReturn(new MemberResponse(1L, "홍길동", "hong@test.com"));
+        when(memberService.getDto(404L)).thenThrow(new IllegalArgumentException("member not found"));
+
+        assertThat(memberStatsService.get(1L).getPaidAmount()).isEqualTo(Money.ZERO);
+        assertThatThrownBy(() -> memberStatsService.get(404L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("member not found");
+    }
+
+    @Test
+    @DisplayName("addOrders: 회원 id 순서로 회원당 UPDATE 한 번")
+    void addOrders_sorted_by_member() {
+        memberStatsService.addOrders(Map.of(3L, 1L, 1L, 2L, 2L, 5L));
+
+        InOrder inOrder = inOrder(memberStatsRepository);
+        inOrder.verify(memberStatsRepository).increment(1L, 2L, 0, 0);
+        inOrder.verify(memberStatsRepository).increment(2L, 5L, 0, 0);
+        inOrder.verify(memberStatsRepository).increment(3L, 1L, 0, 0);
+        verifyNoMoreInteractions(memberStatsRepository);
+    }
+
+    @Test
+    @DisplayName("rebuild: PK 구간을 청크로 나눠 청크마다 한 트랜잭션에서 누락 행 생성 → 행 잠금 → 재집계")
+    void rebuild_in_chunks() {
+        // 경계: MIN → 1000 → 2000 → (남은 회원 < CHUNK_SIZE) → MAX
+        when(memberRepository.findIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(1000L));
+        when(memberRepository.findIdsAfter(eq(1000L), any(Pageable.class))).thenReturn(List.of(2000L));
+        when(memberRepository.findIdsAfter(eq(2000L), any(Pageable.class))).thenReturn(List.of());
+        when(memberStatsRepository.recompute(anyLong(), anyLong())).thenReturn(1000, 1000, 10);
+
+        MemberStatsRebuildResponse res = memberStatsService.rebuild();
+
+        assertThat(res.getChunks()).isEqualTo(3);
+        assertThat(res.getMembers()).isEqualTo(2010);
+        verify(memberStatsRepository).insertMissing(Long.MIN_VALUE, 1000L);
+        verify(memberStatsRepository).recompute(1000L, 2000L);
+        InOrder inOrder = inOrder(memberStatsRepository);
+        inOrder.verify(memberStatsRepository).insertMissing(2000L, Long.MAX_VALUE);
+        inOrder.verify(memberStatsRepository).lockRange(2000L, Long.MAX_VALUE);
+        inOrder.verify(memberStatsRepository).recompute(2000L, Long.MAX_VALUE);
+        verify(txManager, times(3)).commit(any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.order.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberOrderControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper om;
+
+    private long createMember(String email) throws Exception {
+        String body = String.format("{\"name\":\"이력\",\"email\":\"%s\"}", email);
+        return om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+    }
+
+    private List<Long> createOrders(long memberId, int count) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) body.append(',');
+            body.append(String.format("{\"memberId\": %d, \"amount\": %d}", memberId, 1000 + i));
+        }
+        body.append(']');
+        JsonNode created = om.readTree(mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        List<Long> ids = new ArrayList<>();
+        created.forEach(n -> ids.add(n.get("orderId").asLong()));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/orders → 커서를 따라가면 전체 이력을 최신순으로 중복 없이 조회")
+    void list_orders_with_cursor() throws Exception {
+        long memberId = createMember("history@test.com");
+        List<Long> created = createOrders(memberId, 5);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var req = get("/api/members/{id}/orders", memberId).param("size", "2");
+            if (cursor != null) req.param("cursor", cursor);
+            JsonNode page = om.readTree(mockMvc.perform(req)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(n -> seen.add(n.get("orderId").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(created);
+        // 같은 시각에 만들어진 주문은 orderId 내림차순
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/orders?status=PAID → 결제 완료 주문만")
+    void list_orders_filtered_by_status() throws Exception {
+        long memberId = createMember("history+paid@test.com");
+        List<Long> created = createOrders(memberId, 3);
+        long paidOrderId = created.get(1);
+
+        String payBody = String.format("{\"orderId\": %d, \"amount\": 1001, \"method\": \"CARD\"}", paidOrderId);
+        long paymentId = om.readTree(mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payBody))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("paymentId").asLong();
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/members/{id}/orders", memberId).param("status", "PAID"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].orderId").value(String.valueOf(paidOrderId)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/members/{id}/orders - 잘못된 커서 → 400, 없는 회원 → 404")
+    void list_orders_errors() throws Exception {
+        long memberId = createMember("history+err@test.com");
+
+        mockMvc.perform(get("/api/members/{id}/orders", memberId).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("invalid cursor"));
+
+        mockMvc.perform(get("/api/members/{id}/orders", 999_999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("member not found"));
+    }
+}
@@ -1,16 +1,26 @@
 package com.example.demo.order.api;
 
+import com.example.demo.common.cache.CacheConfig;
+import com.example.demo.common.money.Money;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.domain.Order;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -26,6 +36,10 @@ class OrderControllerIntegrationTest {
     MockMvc mockMvc;
     @Autowired
     ObjectMapper om;
+    @Autowired
+    CacheManager cacheManager;
+    @Autowired
+    EntityManagerFactory emf;
 
     @Test
     @DisplayName("POST /api/orders → 저장 성공 후 GET /api/orders/{id} 조회")
@@ -55,7 +69,7 @@ class OrderControllerIntegrationTest {
                         .content(orderBody))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.orderId").exists())
-                .andExpect(jsonPath("$.memberId").value(memberId))
+                .andExpect(jsonPath("$.memberId").value(String.valueOf(memberId)))
                 .andExpect(jsonPath("$.status").value("CREATED"))
                 .andExpect(jsonPath("$.amount").value(50000.0))
                 .andReturn();
@@ -67,13 +81,130 @@ class OrderControllerIntegrationTest {
         // 3) 주문 조회
         mockMvc.perform(get("/api/orders/{id}", orderId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.orderId").value(orderId))
-                .andExpect(jsonPath("$.memberId").value(memberId))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
+                .andExpect(jsonPath("$.memberId").value(String.valueOf(memberId)))
                 .andExpect(jsonPath("$.status").value("CREATED"))
                 .andExpect(jsonPath("$.amount").value(50000.0))
                 .andExpect(jsonPath("$.orderDate").exists());
     }
 
+    @Test
+    @DisplayName("POST /api/orders/batch → 여러 주문을 한 번에 생성")
+    void create_orders_batch_success() throws Exception {
+        String memberBody = """
+            {"name":"배치","email":"batch@test.com"}
+            """;
+        long memberId = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(memberBody))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+
+        String batchBody = String.format("""
+            [{"memberId": %d, "amount": 1000},
+             {"memberId": %d, "amount": 2000},
+             {"memberId": %d, "amount": 3000}]
+            """, memberId, memberId, memberId);
+
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].orderId").exists())
+                .andExpect(jsonPath("$[0].memberId").value(String.valueOf(memberId)))
+                .andExpect(jsonPath("$[2].amount").value(3000.0));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/batch - 존재하지 않는 memberId 포함 → 404")
+    void create_orders_batch_member_not_found() throws Exception {
+        String body = """
+            [{"memberId": 999999, "amount": 1000}]
+            """;
+
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("member not found"));
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/{id} → DTO 캐시에 옛 주문이 남아 있어도 현재 행을 읽어 옛 ETag 에 200 + PAID")
+    void get_order_ignores_stale_dto_cache() throws Exception {
+        String memberBody = """
+            {"name":"캐시","email":"cache+order@test.com"}
+            """;
+        long memberId = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(memberBody))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+        long orderId = om.readTree(mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"memberId\": %d, \"amount\": 100}", memberId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("orderId").asLong();
+        long paymentId = om.readTree(mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"orderId\": %d, \"amount\": 100, \"method\": \"CARD\"}", orderId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("paymentId").asLong();
+        MvcResult before = mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andReturn();
+        String staleEtag = before.getResponse().getHeader("ETag");
+        JsonNode staleBody = om.readTree(before.getResponse().getContentAsString());
+
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)).andExpect(status().isOk());
+        // 승인 커밋 전에 읽힌 옛 DTO 가 커밋 후 캐시에 다시 들어간 상황
+        cacheManager.getCache(CacheConfig.ORDERS).put(orderId, new OrderResponse(orderId, memberId,
+                staleBody.get("status").asText(), staleBody.get("orderDate").asText(),
+                Money.valueOf(staleBody.get("amount").asText()), Long.parseLong(staleEtag.replace("\"", ""))));
+
+        mockMvc.perform(get("/api/orders/{id}", orderId).header("If-None-Match", staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andExpect(result -> assertThat(result.getResponse().getHeader("ETag")).isNotEqualTo(staleEtag));
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/{id} → 결제가 있어도 select 는 orders 한 번뿐")
+    void get_order_runs_exactly_one_select() throws Exception {
+        String memberBody = """
+            {"name":"지연로딩","email":"lazy+order@test.com"}
+            """;
+        long memberId = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(memberBody))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+        long orderId = om.readTree(mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"memberId\": %d, \"amount\": 700}", memberId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("orderId").asLong();
+        mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"orderId\": %d, \"amount\": 700, \"method\": \"CARD\"}", orderId)))
+                .andExpect(status().isOk());
+
+        // DTO 캐시와 2차 캐시를 비워 DB 조회 경로를 강제
+        cacheManager.getCache(CacheConfig.ORDERS).evict(orderId);
+        emf.getCache().evict(Order.class);
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
+                .andExpect(jsonPath("$.memberId").value(String.valueOf(memberId)));
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     /**
      * 멤버가 존재하지 않는 경우: memberService.get() 에서 not found → 전역 예외 처리로 404 반환
      */
@@ -121,4 +252,103 @@ class OrderControllerIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("amount must be >= 0"));
     }
-}
\ No newline at end of file
+
+    /**
+     * 금액 역직렬화 실패: Money 의 IllegalArgumentException 이 HttpMessageNotReadableException 에 싸여 와도
+     * 같은 400 + {"message": ...} 본문
+     */
+    @Test
+    @DisplayName("POST /api/orders - 금액 형식 오류(소수 3자리/문자) / 깨진 JSON → 400 + message")
+    void create_order_unreadable_amount() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": 1, \"amount\": 1.005}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("amount scale must be <= 2"));
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": 1, \"amount\": \"abc\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("invalid amount: abc"));
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\": 1, \"amount\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("malformed request body"));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders - 회원별 burst 를 넘기면 429 + Retry-After, 다른 회원은 영향 없음")
+    void create_order_rate_limited_per_member() throws Exception {
+        long memberId = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"제한\",\"email\":\"limit+order@test.com\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+        String body = String.format("{\"memberId\": %d, \"amount\": 1000}", memberId);
+
+        // 기본 한도: burst 20, 초당 10 → 연속 요청은 20건 남짓에서 막힌다
+        int accepted = 0;
+        MvcResult limited = null;
+        while (limited == null && accepted < 100) {
+            MvcResult res = mockMvc.perform(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andReturn();
+            if (res.getResponse().getStatus() == 429) limited = res;
+            else accepted++;
+        }
+
+        assertNotNull(limited);
+        assertThat(accepted).isGreaterThanOrEqualTo(20);
+        assertThat(Long.parseLong(limited.getResponse().getHeader("Retry-After"))).isPositive();
+        assertThat(om.readTree(limited.getResponse().getContentAsString()).get("message").asText())
+                .startsWith("too many requests");
+
+        // 다른 회원은 자기 버킷을 쓴다
+        long other = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"제한2\",\"email\":\"limit+order2@test.com\"}"))
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"memberId\": %d, \"amount\": 1000}", other)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/batch - 주문 수와 무관하게 요청마다 회원당 토큰 하나, 단건 주문 버킷은 건드리지 않는다")
+    void create_batch_rate_limited_per_request() throws Exception {
+        long memberId = om.readTree(mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"제한배치\",\"email\":\"limit+batch@test.com\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("memberId").asLong();
+        String one = String.format("{\"memberId\": %d, \"amount\": 1000}", memberId);
+
+        // 대량 적재: 단건 burst(20) 보다 많아도 한 요청이면 통과
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + String.join(",", Collections.nCopies(100, one)) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(100));
+        mockMvc.perform(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(one))
+                .andExpect(status().isOk());
+
+        // 기본 한도: 일괄 요청 burst 5, 초당 1
+        int accepted = 1;
+        MvcResult limited = null;
+        while (limited == null && accepted < 20) {
+            MvcResult res = mockMvc.perform(post("/api/orders/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[" + one + "]"))
+                    .andReturn();
+            if (res.getResponse().getStatus() == 429) limited = res;
+            else accepted++;
+        }
+
+        assertNotNull(limited);
+        assertThat(accepted).isGreaterThanOrEqualTo(5);
+        assertThat(limited.getResponse().getHeader("Retry-After")).isNotNull();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.order.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderSearchControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper om;
+
+    private JsonNode json(RequestBuilder req) throws Exception {
+        return om.readTree(mockMvc.perform(req)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private long createMember(String email) throws Exception {
+        String body = String.format("{\"name\":\"검색\",\"email\":\"%s\"}", email);
+        return json(post("/api/members").contentType(MediaType.APPLICATION_JSON).content(body))
+                .get("memberId").asLong();
+    }
+
+    private long createOrder(long memberId, String amount) throws Exception {
+        String body = String.format("{\"memberId\": %d, \"amount\": %s}", memberId, amount);
+        return json(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(body))
+                .get("orderId").asLong();
+    }
+
+    private void pay(long orderId, String amount, String method) throws Exception {
+        String body = String.format("{\"orderId\": %d, \"amount\": %s, \"method\": \"%s\"}", orderId, amount, method);
+        long paymentId = json(post("/api/payments").contentType(MediaType.APPLICATION_JSON).content(body))
+                .get("paymentId").asLong();
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)).andExpect(status().isOk());
+    }
+
+    private List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("items").forEach(n -> ids.add(n.get("orderId").asLong()));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/search → 상태 / 기간 / 금액 / 결제수단 조합으로 최신순 검색")
+    void search_by_conditions() throws Exception {
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        String from = start.toString();
+        String to = start.plusDays(1).toString();
+        long memberId = createMember("search@test.com");
+        long small = createOrder(memberId, "1000");
+        long card = createOrder(memberId, "5000");
+        long bank = createOrder(memberId, "9000");
+        pay(card, "5000", "CARD");
+        pay(bank, "9000", "BANK_TRANSFER");
+
+        assertThat(ids(json(get("/api/orders/search").param("from", from).param("to", to))))
+                .containsExactly(bank, card, small);
+        assertThat(ids(json(get("/api/orders/search").param("from", from).param("status", "PAID"))))
+                .containsExactly(bank, card);
+        assertThat(ids(json(get("/api/orders/search").param("from", from).param("to", to).param("method", "CARD"))))
+                .containsExactly(card);
+        assertThat(ids(json(get("/api/orders/search").param("from", from).param("to", to)
+                .param("minAmount", "1000.01").param("maxAmount", "9000"))))
+                .containsExactly(bank, card);
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/search → 커서를 따라가면 중복 없이 전체 결과")
+    void search_with_cursor() throws Exception {
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        String from = start.toString();
+        String to = start.plusDays(1).toString();
+        long memberId = createMember("search+cursor@test.com");
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) created.add(createOrder(memberId, "700"));
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var req = get("/api/orders/search").param("from", from).param("to", to).param("size", "2");
+            if (cursor != null) req.param("cursor", cursor);
+            JsonNode page = json(req);
+            seen.addAll(ids(page));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(created.reversed());
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/search - 잘못된 범위 → 400")
+    void search_invalid_range() throws Exception {
+        mockMvc.perform(get("/api/orders/search")
+                        .param("from", "2026-01-02T00:00:00").param("to", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from must be before to"));
+
+        mockMvc.perform(get("/api/orders/search").param("minAmount", "10").param("maxAmount", "1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("minAmount must be <= maxAmount"));
+    }
+
+    @Test
+    @DisplayName("GET /api/orders/search - 상태만이 아닌 조건에 기간이 없거나 31일을 넘으면 → 400")
+    void search_without_status_requires_window() throws Exception {
+        mockMvc.perform(get("/api/orders/search").param("method", "CARD").param("minAmount", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from and to are required unless searching by status alone"));
+        mockMvc.perform(get("/api/orders/search").param("status", "PAID").param("method", "CARD"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from and to are required unless searching by status alone"));
+
+        mockMvc.perform(get("/api/orders/search")
+                        .param("from", "2026-01-01T00:00:00").param("to", "2026-02-01T00:00:01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("search window must be at most 31 days"));
+    }
+}
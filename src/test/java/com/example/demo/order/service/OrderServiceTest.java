@@ -1,12 +1,19 @@
 package com.example.demo.order.service;
 
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxWriter;
 import com.example.demo.member.domain.Member;
 import com.example.demo.member.service.MemberService;
+import com.example.demo.member.service.MemberStatsService;
 import com.example.demo.order.api.dto.OrderCreateRequest;
+import com.example.demo.order.api.dto.OrderPageResponse;
 import com.example.demo.order.api.dto.OrderResponse;
 import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderCreatedEvent;
 import com.example.demo.order.domain.OrderStatus;
 import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.repository.OrderSearchCondition;
+import com.example.demo.payment.domain.PaymentMethod;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,9 +21,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,6 +41,12 @@ class OrderServiceTest {
     @Mock
     MemberService memberService;
 
+    @Mock
+    MemberStatsService memberStatsService;
+
+    @Mock
+    OutboxWriter outboxWriter;
+
     @InjectMocks
     OrderService orderService;
 
@@ -39,7 +54,7 @@ class OrderServiceTest {
     @DisplayName("create: 존재하는 회원으로 주문 생성 → 저장 후 DTO 매핑")
     void create_success() {
         // given
-        OrderCreateRequest req = new OrderCreateRequest(1L, 50000.0);
+        OrderCreateRequest req = new OrderCreateRequest(1L, Money.of(50000));
 
         Member member = Member.builder()
                 .MemberId(1L)
@@ -47,7 +62,7 @@ class OrderServiceTest {
                 .email("hong@test.com")
                 .build();
 
-        when(memberService.get(1L)).thenReturn(member);
+        when(memberService.getReference(1L)).thenReturn(member);
 
         // save()가 반환할 '저장된' 주문 (id 포함)
         LocalDateTime now = LocalDateTime.of(2025, 10, 3, 12, 30, 0);
@@ -56,7 +71,7 @@ class OrderServiceTest {
                 .member(member)
                 .status(OrderStatus.CREATED)
                 .orderDate(now)
-                .totalAmount(new BigDecimal("50000.00"))
+                .totalAmount(Money.valueOf("50000.00"))
                 .build();
 
         when(orderRepository.save(any(Order.class))).thenReturn(saved);
@@ -69,19 +84,22 @@ class OrderServiceTest {
         assertThat(res.getMemberId()).isEqualTo(1L);
         assertThat(res.getStatus()).isEqualTo("CREATED");
         assertThat(res.getOrderDate()).isEqualTo(now.toString());
-        assertThat(res.getAmount()).isEqualTo(50000.0);
+        assertThat(res.getAmount()).isEqualTo(Money.of(50000));
 
-        verify(memberService).get(1L);
+        verify(memberService).getDto(1L);
+        verify(memberService).getReference(1L);
         verify(orderRepository).save(any(Order.class));
+        verify(memberStatsService).add(1L, 1, 0, Money.ZERO);
+        verify(outboxWriter).append(new OrderCreatedEvent(100L, 1L, Money.of(50000), now)); // 같은 트랜잭션
         verifyNoMoreInteractions(memberService, orderRepository);
     }
 
     @Test
-    @DisplayName("create: 회원이 없으면 memberService.get()에서 예외")
+    @DisplayName("create: 회원이 없으면 memberService.getDto()에서 예외")
     void create_member_not_found_throws() {
         // given
-        OrderCreateRequest req = new OrderCreateRequest(999L, 1000.0);
-        when(memberService.get(999L))
+        OrderCreateRequest req = new OrderCreateRequest(999L, Money.of(1000));
+        when(memberService.getDto(999L))
                 .thenThrow(new IllegalArgumentException("member not found"));
 
         // expect
@@ -89,10 +107,68 @@ class OrderServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("member not found");
 
-        verify(memberService).get(999L);
+        verify(memberService).getDto(999L);
+        verify(memberService, never()).getReference(any());
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("createAll: 회원을 한 번에 조회하고 saveAll로 일괄 저장")
+    void createAll_success() {
+        // given
+        Member m1 = Member.builder().MemberId(1L).name("홍길동").email("hong@test.com").build();
+        Member m2 = Member.builder().MemberId(2L).name("최인준").email("lim@test.com").build();
+        when(memberService.getAll(Set.of(1L, 2L))).thenReturn(Map.of(1L, m1, 2L, m2));
+        when(orderRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<OrderCreateRequest> reqs = List.of(
+                new OrderCreateRequest(1L, Money.of(1000)),
+                new OrderCreateRequest(2L, Money.of(2000)),
+                new OrderCreateRequest(1L, Money.of(3000)));
+
+        // when
+        List<OrderResponse> res = orderService.createAll(reqs);
+
+        // then
+        assertThat(res).hasSize(3);
+        assertThat(res).extracting(OrderResponse::getMemberId).containsExactly(1L, 2L, 1L);
+        assertThat(res).extracting(OrderResponse::getAmount).containsExactly(Money.of(1000), Money.of(2000), Money.of(3000));
+        assertThat(res).extracting(OrderResponse::getStatus).containsOnly("CREATED");
+
+        verify(memberService).getAll(Set.of(1L, 2L));
+        verify(orderRepository).saveAll(anyList());
+        verify(memberStatsService).addOrders(Map.of(1L, 2L, 2L, 1L)); // 회원별 주문 수
+        verify(outboxWriter).appendAll(argThat(events -> events.size() == 3)); // 주문마다 1건, 한 번에
+        verifyNoMoreInteractions(memberService, orderRepository);
+    }
+
+    @Test
+    @DisplayName("createAll: 빈 요청이면 IllegalArgumentException('orders required')")
+    void createAll_empty_throws() {
+        assertThatThrownBy(() -> orderService.createAll(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("orders required");
+
+        verifyNoInteractions(memberService, orderRepository);
+    }
+
+    @Test
+    @DisplayName("createAll: 없는 회원이 섞여 있으면 저장하지 않고 예외")
+    void createAll_member_not_found_throws() {
+        when(memberService.getAll(Set.of(1L, 999L)))
+                .thenThrow(new IllegalArgumentException("member not found"));
+
+        List<OrderCreateRequest> reqs = List.of(
+                new OrderCreateRequest(1L, Money.of(1000)),
+                new OrderCreateRequest(999L, Money.of(1000)));
+
+        assertThatThrownBy(() -> orderService.createAll(reqs))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("member not found");
+
+        verify(orderRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("get: 존재하는 주문을 반환")
     void get_success() {
@@ -109,7 +185,7 @@ class OrderServiceTest {
                 .member(member)
                 .status(OrderStatus.CREATED)
                 .orderDate(whenOrdered)
-                .totalAmount(new BigDecimal("12345.67"))
+                .totalAmount(Money.valueOf("12345.67"))
                 .build();
 
         when(orderRepository.findById(10L)).thenReturn(Optional.of(entity));
@@ -122,7 +198,7 @@ class OrderServiceTest {
         assertThat(found.getMember().getMemberId()).isEqualTo(1L);
         assertThat(found.getStatus().name()).isEqualTo("CREATED");
         assertThat(found.getOrderDate()).isEqualTo(whenOrdered);
-        assertThat(found.getTotalAmount()).isEqualTo(new BigDecimal("12345.67"));
+        assertThat(found.getTotalAmount()).isEqualTo(Money.valueOf("12345.67"));
     }
 
     @Test
@@ -136,24 +212,13 @@ class OrderServiceTest {
     }
 
     @Test
-    @DisplayName("getDto: 주문을 조회해 DTO로 매핑")
+    @DisplayName("getDto: 엔티티 없이 OrderResponse 프로젝션으로 조회")
     void getDto_success() {
-        Member member = Member.builder()
-                .MemberId(3L)
-                .name("최인준")
-                .email("lim@test.com")
-                .build();
-
         LocalDateTime whenOrdered = LocalDateTime.of(2025, 10, 3, 13, 0, 0);
-        Order entity = Order.builder()
-                .OrderId(77L)
-                .member(member)
-                .status(OrderStatus.CREATED)
-                .orderDate(whenOrdered)
-                .totalAmount(new BigDecimal("50000.00"))
-                .build();
+        OrderResponse projected = new OrderResponse(
+                77L, 3L, OrderStatus.CREATED, whenOrdered, Money.valueOf("50000.00"));
 
-        when(orderRepository.findById(77L)).thenReturn(Optional.of(entity));
+        when(orderRepository.findResponseById(77L)).thenReturn(Optional.of(projected));
 
         OrderResponse res = orderService.getDto(77L);
 
@@ -161,6 +226,109 @@ class OrderServiceTest {
         assertThat(res.getMemberId()).isEqualTo(3L);
         assertThat(res.getStatus()).isEqualTo("CREATED");
         assertThat(res.getOrderDate()).isEqualTo(whenOrdered.toString());
-        assertThat(res.getAmount()).isEqualTo(50000.0);
+        assertThat(res.getAmount()).isEqualTo(Money.of(50000));
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getCurrentDto: 버전까지 프로젝션으로 조회 (조건부 GET 용)")
+    void getCurrentDto_with_version() {
+        OrderResponse projected = new OrderResponse(
+                77L, 3L, OrderStatus.PAID, LocalDateTime.of(2025, 10, 3, 13, 0, 0), Money.of(50000), 2L);
+        when(orderRepository.findResponseById(77L)).thenReturn(Optional.of(projected));
+
+        OrderResponse res = orderService.getCurrentDto(77L);
+
+        assertThat(res.getStatus()).isEqualTo("PAID");
+        assertThat(res.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("getDto: 주문이 없으면 IllegalArgumentException('order not found')")
+    void getDto_not_found_throws() {
+        when(orderRepository.findResponseById(404L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.getDto(404L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("order not found");
+    }
+
+    @Test
+    @DisplayName("search: 커서를 (orderDate, orderId) 로 풀고 size + 1 건을 읽어 다음 커서를 만든다")
+    void search_with_cursor() {
+        LocalDateTime t = LocalDateTime.of(2025, 10, 3, 13, 0, 0);
+        OrderSearchCondition cond = new OrderSearchCondition(OrderStatus.PAID, null, null, null, null, null);
+        String cursor = new OrderCursor(t, 50L).encode();
+        List<OrderResponse> rows = List.of(
+                new OrderResponse(40L, 1L, OrderStatus.PAID, t, Money.of(1000)),
+                new OrderResponse(30L, 1L, OrderStatus.PAID, t, Money.of(1000)));
+        when(orderRepository.search(cond, t, 50L, 2)).thenReturn(rows);
+
+        OrderPageResponse page = orderService.search(cond, cursor, 1);
+
+        assertThat(page.getItems()).extracting(OrderResponse::getOrderId).containsExactly(40L);
+        assertThat(OrderCursor.decode(page.getNextCursor())).isEqualTo(new OrderCursor(t, 40L));
+    }
+
+    @Test
+    @DisplayName("search: from >= to 또는 minAmount > maxAmount 면 조회 없이 IllegalArgumentException")
+    void search_invalid_range_throws() {
+        LocalDateTime t = LocalDateTime.of(2025, 10, 3, 13, 0, 0);
+        OrderSearchCondition dates = new OrderSearchCondition(null, t, t, null, null, null);
+        OrderSearchCondition amounts = new OrderSearchCondition(OrderStatus.PAID, null, null, Money.of(10), Money.of(1), null);
+
+        assertThatThrownBy(() -> orderService.search(dates, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from must be before to");
+        assertThatThrownBy(() -> orderService.search(amounts, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("minAmount must be <= maxAmount");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("search: 상태 조건이 없으면 31일 이내의 from/to 가 필수 (없거나 넘으면 조회 없이 IllegalArgumentException)")
+    void search_without_status_requires_bounded_window() {
+        LocalDateTime t = LocalDateTime.of(2025, 10, 3, 13, 0, 0);
+        OrderSearchCondition open = new OrderSearchCondition(null, t, null, Money.of(1), null, PaymentMethod.CARD);
+        OrderSearchCondition wide = new OrderSearchCondition(null, t, t.plusDays(31).plusSeconds(1), null, null, null);
+
+        assertThatThrownBy(() -> orderService.search(open, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from and to are required unless searching by status alone");
+        assertThatThrownBy(() -> orderService.search(wide, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("search window must be at most 31 days");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("search: 상태가 있어도 금액/결제수단 조건이 붙으면 31일 이내의 from/to 가 필수")
+    void search_with_filters_requires_bounded_window() {
+        LocalDateTime t = LocalDateTime.of(2025, 10, 3, 13, 0, 0);
+        OrderSearchCondition byMethod = new OrderSearchCondition(OrderStatus.PAID, null, null, null, null, PaymentMethod.CARD);
+        OrderSearchCondition byAmount = new OrderSearchCondition(OrderStatus.PAID, t, null, Money.of(1000), null, null);
+        OrderSearchCondition wide = new OrderSearchCondition(OrderStatus.PAID, t, t.plusDays(32), null, null, PaymentMethod.CARD);
+
+        assertThatThrownBy(() -> orderService.search(byMethod, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from and to are required unless searching by status alone");
+        assertThatThrownBy(() -> orderService.search(byAmount, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from and to are required unless searching by status alone");
+        assertThatThrownBy(() -> orderService.search(wide, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("search window must be at most 31 days");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("search: 상태 조건이 없어도 31일 기간이면 조회한다")
+    void search_without_status_within_window() {
+        LocalDateTime t = LocalDateTime.of(2025, 10, 3, 13, 0, 0);
+        OrderSearchCondition cond = new OrderSearchCondition(null, t, t.plusDays(31), null, null, PaymentMethod.CARD);
+        when(orderRepository.search(cond, null, null, 21)).thenReturn(List.of());
+
+        assertThat(orderService.search(cond, null, 20).getItems()).isEmpty();
     }
-}
\ No newline at end of file
+}
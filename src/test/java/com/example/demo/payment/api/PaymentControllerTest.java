@@ -12,9 +12,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -66,7 +68,7 @@ class PaymentControllerIntegrationTest {
                         .content(payReqBody))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.paymentId").exists())
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.status").value("REQUESTED"))
                 .andExpect(jsonPath("$.method").value("CARD"))
                 .andExpect(jsonPath("$.amount").value(50000.0))
@@ -80,8 +82,8 @@ class PaymentControllerIntegrationTest {
         // 2) 결제 조회
         mockMvc.perform(get("/api/payments/{id}", paymentId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.paymentId").value(paymentId))
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.paymentId").value(String.valueOf(paymentId)))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.status").value("REQUESTED"))
                 .andExpect(jsonPath("$.approvedAt").doesNotExist());
     }
@@ -107,8 +109,8 @@ class PaymentControllerIntegrationTest {
         // 승인
         mockMvc.perform(post("/api/payments/{id}/approve", paymentId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.paymentId").value(paymentId))
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.paymentId").value(String.valueOf(paymentId)))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.status").value("APPROVED"))
                 .andExpect(jsonPath("$.approvedAt").exists());
 
@@ -118,6 +120,185 @@ class PaymentControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("PAID"));
     }
 
+    @Test
+    @DisplayName("주문 조회가 캐시된 뒤 결제 승인 → 캐시가 비워져 PAID 로 조회")
+    void approve_evicts_cached_order() throws Exception {
+        long memberId = createMember("캐시", "cache+pay@test.com");
+        long orderId = createOrder(memberId, 3000.0);
+
+        // 조회로 CREATED 상태가 캐시됨
+        mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"));
+
+        String payReqBody = String.format("{\"orderId\": %d, \"amount\": 3000, \"method\": \"CARD\"}", orderId);
+        long paymentId = om.readTree(
+                mockMvc.perform(post("/api/payments")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(payReqBody))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString()
+        ).get("paymentId").asLong();
+
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"));
+    }
+
+    @Test
+    @DisplayName("이미 승인된 결제 재승인 → 409 (already processed)")
+    void approve_twice_conflict() throws Exception {
+        long memberId = createMember("중복", "twice+pay@test.com");
+        long orderId = createOrder(memberId, 7000.0);
+
+        String payReqBody = String.format("{\"orderId\": %d, \"amount\": 7000, \"method\": \"CARD\"}", orderId);
+        long paymentId = om.readTree(
+                mockMvc.perform(post("/api/payments")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(payReqBody))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString()
+        ).get("paymentId").asLong();
+
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("already processed"));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 결제 요청/승인 재시도 → 첫 응답 replay")
+    void idempotent_retry_replays_first_response() throws Exception {
+        long memberId = createMember("멱등", "idem+pay@test.com");
+        long orderId = createOrder(memberId, 8000.0);
+        String payReqBody = String.format("{\"orderId\": %d, \"amount\": 8000, \"method\": \"CARD\"}", orderId);
+
+        String first = mockMvc.perform(post("/api/payments")
+                        .header("Idempotency-Key", "pay-req-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payReqBody))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn().getResponse().getContentAsString();
+        long paymentId = om.readTree(first).get("paymentId").asLong();
+
+        // 재시도: unique(order_id) 위반 대신 같은 결제
+        mockMvc.perform(post("/api/payments")
+                        .header("Idempotency-Key", "pay-req-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payReqBody))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.paymentId").value(String.valueOf(paymentId)));
+
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)
+                        .header("Idempotency-Key", "pay-approve-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+        // 재시도: already processed(409) 대신 첫 승인 응답
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)
+                        .header("Idempotency-Key", "pay-approve-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 를 다른 요청에 재사용 → 400")
+    void idempotency_key_reuse_rejected() throws Exception {
+        long memberId = createMember("멱등2", "idem2+pay@test.com");
+        long orderId = createOrder(memberId, 9000.0);
+
+        mockMvc.perform(post("/api/payments")
+                        .header("Idempotency-Key", "pay-req-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"orderId\": %d, \"amount\": 9000, \"method\": \"CARD\"}", orderId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/payments")
+                        .header("Idempotency-Key", "pay-req-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"orderId\": %d, \"amount\": 9000, \"method\": \"BANK_TRANSFER\"}", orderId)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Idempotency-Key reused with a different request"));
+    }
+
+    private long requestPayment(long orderId, long amount, String method) throws Exception {
+        String body = String.format("{\"orderId\": %d, \"amount\": %d, \"method\": \"%s\"}", orderId, amount, method);
+        return om.readTree(mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("paymentId").asLong();
+    }
+
+    @Test
+    @DisplayName("일괄 승인(ID 목록) → ID 별 APPROVED / ALREADY_PROCESSED / NOT_FOUND, 주문 PAID")
+    void approve_batch_by_ids() throws Exception {
+        long memberId = createMember("정산", "batch+pay@test.com");
+        long order1 = createOrder(memberId, 1000.0);
+        long order2 = createOrder(memberId, 2000.0);
+        long order3 = createOrder(memberId, 3000.0);
+        long p1 = requestPayment(order1, 1000, "CARD");
+        long p2 = requestPayment(order2, 2000, "CARD");
+        long p3 = requestPayment(order3, 3000, "CARD");
+        mockMvc.perform(post("/api/payments/{id}/approve", p3)).andExpect(status().isOk());
+
+        // 캐시된 CREATED 주문도 무효화되어야 한다
+        mockMvc.perform(get("/api/orders/{id}", order1))
+                .andExpect(jsonPath("$.status").value("CREATED"));
+
+        String body = String.format("{\"paymentIds\": [%d, %d, %d, %d, %d]}", p1, p2, p3, 987654321L, p1);
+        mockMvc.perform(post("/api/payments/approve-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(2))
+                .andExpect(jsonPath("$.alreadyProcessed").value(1))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].paymentId").value(String.valueOf(p1)))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPROVED"))
+                .andExpect(jsonPath("$.results[2].outcome").value("ALREADY_PROCESSED"))
+                .andExpect(jsonPath("$.results[3].outcome").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/payments/{id}", p2))
+                .andExpect(jsonPath("$.status").value("APPROVED"))
+                .andExpect(jsonPath("$.approvedAt").exists());
+        mockMvc.perform(get("/api/orders/{id}", order1))
+                .andExpect(jsonPath("$.status").value("PAID"));
+        mockMvc.perform(get("/api/orders/{id}", order2))
+                .andExpect(jsonPath("$.status").value("PAID"));
+    }
+
+    @Test
+    @DisplayName("일괄 승인(필터) → 조건에 맞는 REQUESTED 결제만 승인")
+    void approve_batch_by_filter() throws Exception {
+        long memberId = createMember("정산필터", "batch-filter+pay@test.com");
+        long va = requestPayment(createOrder(memberId, 1100.0), 1100, "VIRTUAL_ACCOUNT");
+        long card = requestPayment(createOrder(memberId, 1200.0), 1200, "CARD");
+
+        mockMvc.perform(post("/api/payments/approve-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"method\": \"VIRTUAL_ACCOUNT\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.alreadyProcessed").value(0))
+                .andExpect(jsonPath("$.results[?(@.paymentId == '" + va + "')].outcome").value("APPROVED"));
+
+        mockMvc.perform(get("/api/payments/{id}", va))
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+        mockMvc.perform(get("/api/payments/{id}", card))
+                .andExpect(jsonPath("$.status").value("REQUESTED"));
+    }
+
     @Test
     @DisplayName("존재하지 않는 주문으로 결제 요청 → 404")
     void request_order_not_found() throws Exception {
@@ -158,4 +339,95 @@ class PaymentControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("payment not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("결제 요청: 주문의 회원 기준으로 burst 를 넘기면 429 + Retry-After, 같은 Idempotency-Key 재시도는 제한 없이 재생")
+    void request_rate_limited_per_member() throws Exception {
+        long memberId = createMember("제한", "limit+pay@test.com");
+        // 주문은 일괄 생성(요청 하나 = 일괄 토큰 하나)으로 넉넉히 만든다
+        StringBuilder orders = new StringBuilder("[");
+        for (int i = 0; i < 60; i++) {
+            if (i > 0) orders.append(',');
+            orders.append(String.format("{\"memberId\": %d, \"amount\": 1000}", memberId));
+        }
+        JsonNode created = om.readTree(mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orders.append(']').toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        String first = String.format("{\"orderId\": %d, \"amount\": 1000, \"method\": \"CARD\"}",
+                created.get(0).get("orderId").asLong());
+        mockMvc.perform(post("/api/payments").header("Idempotency-Key", "limit-pay-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(first))
+                .andExpect(status().isOk());
+
+        int accepted = 1;
+        MvcResult limited = null;
+        for (int i = 1; i < created.size(); i++) {
+            String body = String.format("{\"orderId\": %d, \"amount\": 1000, \"method\": \"CARD\"}",
+                    created.get(i).get("orderId").asLong());
+            MvcResult res = mockMvc.perform(post("/api/payments").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andReturn();
+            if (res.getResponse().getStatus() == 429) {
+                limited = res;
+                break;
+            }
+            accepted++;
+        }
+
+        assertNotNull(limited);
+        assertThat(accepted).isGreaterThanOrEqualTo(20);
+        assertThat(Long.parseLong(limited.getResponse().getHeader("Retry-After"))).isPositive();
+
+        // 버킷이 비어 있어도 재시도는 저장된 첫 응답을 그대로
+        mockMvc.perform(post("/api/payments").header("Idempotency-Key", "limit-pay-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(first))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+    }
+
+    @Test
+    @DisplayName("GET 결제/주문: 버전 ETag + If-None-Match → 304, 승인 후에는 옛 ETag 로 200 과 새 ETag")
+    void conditional_get_follows_approval() throws Exception {
+        long memberId = createMember("폴링", "etag+pay@test.com");
+        long orderId = createOrder(memberId, 5000.0);
+        String body = String.format("{\"orderId\": %d, \"amount\": 5000, \"method\": \"CARD\"}", orderId);
+        long paymentId = om.readTree(mockMvc.perform(post("/api/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("paymentId").asLong();
+
+        MvcResult payment = mockMvc.perform(get("/api/payments/{id}", paymentId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andReturn();
+        String paymentEtag = payment.getResponse().getHeader("ETag");
+        String orderEtag = mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 대기 중 폴링: 본문 없이 304
+        mockMvc.perform(get("/api/payments/{id}", paymentId).header("If-None-Match", paymentEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", paymentEtag))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsByteArray()).isEmpty());
+        mockMvc.perform(get("/api/orders/{id}", orderId).header("If-None-Match", orderEtag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/payments/{id}/approve", paymentId)).andExpect(status().isOk());
+
+        // 승인 후: 같은 ETag 로 물어도 새 상태와 새 ETag
+        String approvedEtag = mockMvc.perform(get("/api/payments/{id}", paymentId).header("If-None-Match", paymentEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(approvedEtag).isNotEqualTo(paymentEtag);
+        mockMvc.perform(get("/api/orders/{id}", orderId).header("If-None-Match", orderEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"));
+        mockMvc.perform(get("/api/payments/{id}", paymentId).header("If-None-Match", approvedEtag))
+                .andExpect(status().isNotModified());
+    }
+}
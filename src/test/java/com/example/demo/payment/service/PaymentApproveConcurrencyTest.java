@@ -0,0 +1,103 @@
+package com.example.demo.payment.service;
+
+import com.example.demo.common.StateConflictException;
+import com.example.demo.common.money.Money;
+import com.example.demo.member.api.dto.MemberCreateRequest;
+import com.example.demo.member.service.MemberService;
+import com.example.demo.order.api.dto.OrderCreateRequest;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.domain.OrderStatus;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.service.OrderService;
+import com.example.demo.payment.api.dto.PaymentApproveRequest;
+import com.example.demo.payment.api.dto.PaymentCreateRequest;
+import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.domain.PaymentStatus;
+import com.example.demo.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PaymentApproveConcurrencyTest {
+
+    static final int THREADS = 100;
+
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    PaymentService paymentService;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    PaymentRepository paymentRepository;
+    @Autowired
+    PlatformTransactionManager txManager;
+
+    @Test
+    @DisplayName("같은 결제를 100개 스레드가 동시에 승인 → 정확히 한 번만 승인, 나머지는 already processed/충돌")
+    void approve_exactly_once_under_race() throws Exception {
+        long memberId = memberService.register(new MemberCreateRequest("경합", "race@test.com")).getMemberId();
+        long orderId = orderService.create(new OrderCreateRequest(memberId, Money.of(5000))).getOrderId();
+        long paymentId = paymentService.request(new PaymentCreateRequest(orderId, Money.of(5000), PaymentMethod.CARD))
+                .getPaymentId();
+
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger alreadyProcessed = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                go.await();
+                try {
+                    paymentService.approve(new PaymentApproveRequest(paymentId));
+                    approved.incrementAndGet();
+                } catch (StateConflictException e) {
+                    alreadyProcessed.incrementAndGet();
+                } catch (ConcurrencyFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        ready.await();
+        go.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS); // 그 밖의 예외는 여기서 실패
+        pool.shutdown();
+
+        assertThat(approved.get()).isEqualTo(1);
+        assertThat(alreadyProcessed.get() + conflicts.get()).isEqualTo(THREADS - 1);
+
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            Payment payment = paymentRepository.findById(paymentId).orElseThrow();
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            assertThat(payment.getVersion()).isEqualTo(1L); // 한 번만 갱신됨
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+            assertThat(order.getVersion()).isEqualTo(1L);
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo.payment.service;
+
+import com.example.demo.common.etag.EntityVersions;
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxWriter;
+import com.example.demo.member.service.MemberStatsService;
+import com.example.demo.order.api.dto.OrderResponse;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.payment.api.dto.ApproveOutcome;
+import com.example.demo.payment.api.dto.PaymentBatchApproveRequest;
+import com.example.demo.payment.api.dto.PaymentBatchApproveResponse;
+import com.example.demo.payment.api.dto.PaymentResponse;
+import com.example.demo.payment.domain.PaymentApprovedEvent;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.report.service.RevenueService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentBatchServiceTest {
+
+    @Mock
+    PaymentRepository paymentRepository;
+    @Mock
+    OrderRepository orderRepository;
+    @Mock
+    MemberStatsService memberStatsService;
+    @Mock
+    RevenueService revenueService;
+    @Mock
+    OutboxWriter outboxWriter;
+    @Mock
+    PlatformTransactionManager txManager;
+    @Mock
+    CacheManager cacheManager;
+    @Mock
+    EntityVersions entityVersions;
+
+    @InjectMocks
+    PaymentBatchService paymentBatchService;
+
+    @Test
+    @DisplayName("approveAll: 빈 ID 목록 → IllegalArgumentException('paymentIds required')")
+    void empty_ids() {
+        assertThatThrownBy(() -> paymentBatchService.approveAll(new PaymentBatchApproveRequest(List.of(), null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("paymentIds required");
+
+        verifyNoInteractions(paymentRepository, orderRepository);
+    }
+
+    @Test
+    @DisplayName("approveAll: 최대 개수 초과 → IllegalArgumentException")
+    void too_many_ids() {
+        List<Long> ids = Collections.nCopies(PaymentBatchService.MAX_IDS + 1, 1L);
+
+        assertThatThrownBy(() -> paymentBatchService.approveAll(new PaymentBatchApproveRequest(ids, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("too many paymentIds");
+    }
+
+    @Test
+    @DisplayName("approveAll: 청크마다 주문 → 결제를 잠그고, 잠근 결제가 없으면 UPDATE 없이 NOT_FOUND")
+    void chunked_locks() {
+        int total = PaymentBatchService.CHUNK_SIZE * 2 + 500;
+        List<Long> ids = LongStream.rangeClosed(1, total).boxed().toList();
+
+        PaymentBatchApproveResponse res = paymentBatchService.approveAll(new PaymentBatchApproveRequest(ids, null, null));
+
+        assertThat(res.getNotFound()).isEqualTo(total);
+        assertThat(res.getResults()).extracting(PaymentBatchApproveResponse.Result::getOutcome)
+                .containsOnly(ApproveOutcome.NOT_FOUND);
+
+        InOrder inOrder = inOrder(orderRepository, paymentRepository);
+        for (int chunk = 0; chunk < 3; chunk++) {
+            inOrder.verify(orderRepository).lockOrdersOfRequestedPayments(anyCollection());
+            inOrder.verify(paymentRepository).lockRequestedIds(anyCollection());
+        }
+        verify(txManager, times(3)).commit(any());
+        verify(paymentRepository, never()).approveRequested(anyCollection(), any());
+        verifyNoInteractions(memberStatsService, revenueService, outboxWriter); // 승인된 결제가 없으면 반영할 것도 없다
+    }
+
+    @Test
+    @DisplayName("approveAll: 잠근 REQUESTED 결제만 승인하고 통계 / 매출 / 이벤트도 그 목록으로, 나머지는 ALREADY_PROCESSED")
+    void approves_only_locked_payments() {
+        when(paymentRepository.lockRequestedIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(paymentRepository.findResponsesByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new PaymentResponse(1L, 10L, "APPROVED", "CARD", Money.of(1000), "2025-01-01T00:00", 2L),
+                new PaymentResponse(2L, 20L, "APPROVED", "CARD", Money.of(2000), "2025-01-01T00:00", 5L)));
+        when(orderRepository.findResponsesByIds(List.of(10L))).thenReturn(List.of(
+                new OrderResponse(10L, 100L, "PAID", "2025-01-01T00:00", Money.of(1000), 3L)));
+
+        PaymentBatchApproveResponse res = paymentBatchService.approveAll(new PaymentBatchApproveRequest(List.of(1L, 2L), null, null));
+
+        assertThat(res.getApproved()).isEqualTo(1);
+        assertThat(res.getAlreadyProcessed()).isEqualTo(1);
+        assertThat(res.getResults()).extracting(PaymentBatchApproveResponse.Result::getOutcome)
+                .containsExactly(ApproveOutcome.APPROVED, ApproveOutcome.ALREADY_PROCESSED);
+
+        ArgumentCaptor<LocalDateTime> approvedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        InOrder inOrder = inOrder(orderRepository, paymentRepository, memberStatsService, revenueService);
+        inOrder.verify(orderRepository).lockOrdersOfRequestedPayments(List.of(1L, 2L));
+        inOrder.verify(paymentRepository).lockRequestedIds(List.of(1L, 2L));
+        inOrder.verify(orderRepository).markPaidForRequestedPayments(List.of(1L));
+        inOrder.verify(paymentRepository).approveRequested(eq(List.of(1L)), approvedAt.capture());
+        inOrder.verify(memberStatsService).addApprovedPayments(List.of(1L));
+        inOrder.verify(revenueService).addApprovedPayments(List.of(1L), approvedAt.getValue());
+        verify(outboxWriter).appendAll(List.of(
+                new PaymentApprovedEvent(1L, 10L, Money.of(1000), PaymentMethod.CARD, approvedAt.getValue())));
+        // 벌크 UPDATE 로 올라간 버전을 다시 읽어 커밋 후 기록 (지우지 않는다)
+        verify(entityVersions).updateAfterCommit(EntityVersions.PAYMENT, 1L, 2L);
+        verify(entityVersions).updateAfterCommit(EntityVersions.ORDER, 10L, 3L);
+        verify(entityVersions, never()).updateAfterCommit(EntityVersions.PAYMENT, 2L, 5L);
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.demo.payment.service;
 
+import com.example.demo.common.StateConflictException;
+import com.example.demo.common.etag.EntityVersions;
+import com.example.demo.common.money.Money;
+import com.example.demo.common.outbox.OutboxWriter;
 import com.example.demo.member.domain.Member;
+import com.example.demo.member.service.MemberStatsService;
 import com.example.demo.order.domain.Order;
 import com.example.demo.order.domain.OrderStatus;
 import com.example.demo.order.service.OrderService;
@@ -8,9 +13,11 @@ import com.example.demo.payment.api.dto.PaymentApproveRequest;
 import com.example.demo.payment.api.dto.PaymentCreateRequest;
 import com.example.demo.payment.api.dto.PaymentResponse;
 import com.example.demo.payment.domain.Payment;
+import com.example.demo.payment.domain.PaymentApprovedEvent;
 import com.example.demo.payment.domain.PaymentMethod;
 import com.example.demo.payment.domain.PaymentStatus;
 import com.example.demo.payment.repository.PaymentRepository;
+import com.example.demo.report.service.RevenueService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,8 +25,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -36,6 +43,16 @@ class PaymentServiceTest {
     PaymentRepository paymentRepository;
     @Mock
     OrderService orderService;
+    @Mock
+    MemberStatsService memberStatsService;
+    @Mock
+    RevenueService revenueService;
+    @Mock
+    OutboxWriter outboxWriter;
+    @Mock
+    EntityVersions entityVersions;
+    @Mock
+    CacheManager cacheManager;
 
     @InjectMocks
     PaymentService paymentService;
@@ -57,7 +74,7 @@ class PaymentServiceTest {
                 .OrderId(orderId)
                 .member(member)
                 .orderDate(LocalDateTime.of(2025, 10, 3, 12, 0, 0))
-                .totalAmount(new BigDecimal("50000.00"))
+                .totalAmount(Money.valueOf("50000.00"))
                 .status(OrderStatus.CREATED)
                 .build();
 
@@ -67,14 +84,14 @@ class PaymentServiceTest {
         Payment saved = Payment.builder()
                 .PaymentId(100L)
                 .order(order)
-                .amount(new BigDecimal("50000.00"))
+                .amount(Money.valueOf("50000.00"))
                 .method(PaymentMethod.CARD)
                 .status(PaymentStatus.REQUESTED)
                 .build();
 
         when(paymentRepository.save(any(Payment.class))).thenReturn(saved);
 
-        PaymentCreateRequest req = new PaymentCreateRequest(orderId, 50000.0, PaymentMethod.CARD);
+        PaymentCreateRequest req = new PaymentCreateRequest(orderId, Money.of(50000), PaymentMethod.CARD);
 
         // when
         PaymentResponse res = paymentService.request(req);
@@ -84,14 +101,14 @@ class PaymentServiceTest {
         assertThat(res.getOrderId()).isEqualTo(orderId);
         assertThat(res.getMethod()).isEqualTo("CARD");
         assertThat(res.getStatus()).isEqualTo("REQUESTED");
-        assertThat(res.getAmount()).isEqualTo(50000.0);
+        assertThat(res.getAmount()).isEqualTo(Money.of(50000));
         assertThat(res.getApprovedAt()).isNull();
 
         ArgumentCaptor<Payment> captor = ArgumentCaptor.forClass(Payment.class);
         verify(paymentRepository).save(captor.capture());
         Payment toSave = captor.getValue();
         assertThat(toSave.getOrder()).isSameAs(order);
-        assertThat(toSave.getAmount()).isEqualByComparingTo(new BigDecimal("50000.00"));
+        assertThat(toSave.getAmount()).isEqualByComparingTo(Money.valueOf("50000.00"));
         assertThat(toSave.getMethod()).isEqualTo(PaymentMethod.CARD);
         assertThat(toSave.getStatus()).isEqualTo(PaymentStatus.REQUESTED);
 
@@ -103,7 +120,7 @@ class PaymentServiceTest {
     @DisplayName("request: 주문 없음 → IllegalArgumentException('order not found')")
     void request_order_not_found() {
         when(orderService.get(999L)).thenThrow(new IllegalArgumentException("order not found"));
-        PaymentCreateRequest req = new PaymentCreateRequest(999L, 1000.0, PaymentMethod.CARD);
+        PaymentCreateRequest req = new PaymentCreateRequest(999L, Money.of(1000), PaymentMethod.CARD);
 
         assertThatThrownBy(() -> paymentService.request(req))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -129,13 +146,13 @@ class PaymentServiceTest {
                 .OrderId(orderId)
                 .member(member)
                 .orderDate(LocalDateTime.now())
-                .totalAmount(new BigDecimal("10000.00")) // 주문 금액 10,000
+                .totalAmount(Money.valueOf("10000.00")) // 주문 금액 10,000
                 .status(OrderStatus.CREATED)
                 .build();
 
         when(orderService.get(orderId)).thenReturn(order);
 
-        PaymentCreateRequest req = new PaymentCreateRequest(orderId, 5000.0, PaymentMethod.CARD); // 5,000 → 불일치
+        PaymentCreateRequest req = new PaymentCreateRequest(orderId, Money.of(5000), PaymentMethod.CARD); // 5,000 → 불일치
 
         // expect
         assertThatThrownBy(() -> paymentService.request(req))
@@ -165,14 +182,14 @@ class PaymentServiceTest {
                 .OrderId(orderId)
                 .member(member)
                 .orderDate(LocalDateTime.now())
-                .totalAmount(new BigDecimal("42000.00"))
+                .totalAmount(Money.valueOf("42000.00"))
                 .status(OrderStatus.CREATED)
                 .build();
 
         Payment payment = Payment.builder()
                 .PaymentId(paymentId)
                 .order(order)
-                .amount(new BigDecimal("42000.00"))
+                .amount(Money.valueOf("42000.00"))
                 .method(PaymentMethod.CARD)
                 .status(PaymentStatus.REQUESTED)
                 .build();
@@ -187,7 +204,7 @@ class PaymentServiceTest {
         assertThat(res.getOrderId()).isEqualTo(orderId);
         assertThat(res.getStatus()).isEqualTo("APPROVED");
         assertThat(res.getMethod()).isEqualTo("CARD");
-        assertThat(res.getAmount()).isEqualTo(42000.0);
+        assertThat(res.getAmount()).isEqualTo(Money.of(42000));
         assertThat(res.getApprovedAt()).isNotNull();
 
         // 도메인 상태 전이까지 검증
@@ -197,6 +214,13 @@ class PaymentServiceTest {
 
         verify(paymentRepository).findById(paymentId);
         // approve는 영속 상태 변경이라 save 호출이 필수는 아님(JPA flush로 반영)
+        verify(paymentRepository).flush();
+        verify(memberStatsService).add(3L, 0, 1, Money.of(42000));
+        verify(revenueService).addApproved(payment.getApprovedAt(), PaymentMethod.CARD, Money.of(42000));
+        verify(outboxWriter).append(new PaymentApprovedEvent(paymentId, orderId, Money.of(42000),
+                PaymentMethod.CARD, payment.getApprovedAt()));
+        verify(entityVersions).updateAfterCommit(eq(EntityVersions.PAYMENT), eq(paymentId), any());
+        verify(entityVersions).updateAfterCommit(eq(EntityVersions.ORDER), eq(orderId), any());
         verifyNoMoreInteractions(paymentRepository, orderService);
     }
 
@@ -213,41 +237,46 @@ class PaymentServiceTest {
         verifyNoMoreInteractions(paymentRepository);
     }
 
-    // ---------- getDto() ----------
-
     @Test
-    @DisplayName("getDto: 존재하는 결제를 DTO로 매핑")
-    void getDto_success() {
-        long orderId = 33L;
-        long paymentId = 330L;
-
-        Member member = Member.builder()
-                .MemberId(9L)
-                .name("풀솦")
-                .email("pulsop@test.com")
-                .build();
-
+    @DisplayName("approve: 이미 승인된 결제 → StateConflictException('already processed'), 부수 효과 없음")
+    void approve_already_processed() {
+        Member member = Member.builder().MemberId(4L).name("재승인").email("again@test.com").build();
         Order order = Order.builder()
-                .OrderId(orderId)
+                .OrderId(21L)
                 .member(member)
-                .orderDate(LocalDateTime.of(2025, 10, 3, 14, 0, 0))
-                .totalAmount(new BigDecimal("15000.00"))
-                .status(OrderStatus.CREATED)
+                .orderDate(LocalDateTime.now())
+                .totalAmount(Money.of(1000))
+                .status(OrderStatus.PAID)
                 .build();
-
-        LocalDateTime approvedAt = LocalDateTime.of(2025, 10, 3, 14, 30, 0);
-
         Payment payment = Payment.builder()
-                .PaymentId(paymentId)
+                .PaymentId(201L)
                 .order(order)
-                .amount(new BigDecimal("15000.00"))
+                .amount(Money.of(1000))
                 .method(PaymentMethod.CARD)
-                .status(PaymentStatus.REQUESTED)
+                .status(PaymentStatus.APPROVED)
                 .build();
+        when(paymentRepository.findById(201L)).thenReturn(Optional.of(payment));
 
-        payment.approve(approvedAt);
+        assertThatThrownBy(() -> paymentService.approve(new PaymentApproveRequest(201L)))
+                .isInstanceOf(StateConflictException.class)
+                .hasMessage("already processed");
 
-        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+        verifyNoInteractions(memberStatsService, revenueService, outboxWriter, entityVersions);
+    }
+
+    // ---------- getDto() ----------
+
+    @Test
+    @DisplayName("getDto: 엔티티 없이 PaymentResponse 프로젝션으로 조회")
+    void getDto_success() {
+        long orderId = 33L;
+        long paymentId = 330L;
+        LocalDateTime approvedAt = LocalDateTime.of(2025, 10, 3, 14, 30, 0);
+
+        PaymentResponse projected = new PaymentResponse(paymentId, orderId,
+                PaymentStatus.APPROVED, PaymentMethod.CARD, Money.valueOf("15000.00"), approvedAt);
+
+        when(paymentRepository.findResponseById(paymentId)).thenReturn(Optional.of(projected));
 
         PaymentResponse res = paymentService.getDto(paymentId);
 
@@ -255,19 +284,19 @@ class PaymentServiceTest {
         assertThat(res.getOrderId()).isEqualTo(orderId);
         assertThat(res.getStatus()).isEqualTo("APPROVED");
         assertThat(res.getMethod()).isEqualTo("CARD");
-        assertThat(res.getAmount()).isEqualTo(15000.0);
+        assertThat(res.getAmount()).isEqualTo(Money.of(15000));
         assertThat(res.getApprovedAt()).isEqualTo(approvedAt.toString());
     }
 
     @Test
     @DisplayName("getDto: 결제 없음 → IllegalArgumentException('payment not found')")
     void getDto_not_found() {
-        when(paymentRepository.findById(999L)).thenReturn(Optional.empty());
+        when(paymentRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> paymentService.getDto(999L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("payment not found");
 
-        verify(paymentRepository).findById(999L);
+        verify(paymentRepository).findResponseById(999L);
     }
 }
\ No newline at end of file
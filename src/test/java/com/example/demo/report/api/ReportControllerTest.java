@@ -0,0 +1,151 @@
+package com.example.demo.report.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReportControllerIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper om;
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private JsonNode json(RequestBuilder req) throws Exception {
+        return om.readTree(mockMvc.perform(req)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    // 결제 id 를 돌려준다
+    private long checkout(long memberId, String amount, String method, boolean approve) throws Exception {
+        String body = String.format("{\"memberId\": %d, \"amount\": %s, \"method\": \"%s\", \"approve\": %b}",
+                memberId, amount, method, approve);
+        return json(post("/api/checkout").contentType(MediaType.APPLICATION_JSON).content(body))
+                .get("payment").get("paymentId").asLong();
+    }
+
+    private JsonNode revenue(LocalDate day, String method) throws Exception {
+        var req = get("/api/reports/revenue").param("from", day.toString()).param("to", day.toString());
+        if (method != null) req.param("method", method);
+        return json(req);
+    }
+
+    private static BigDecimal amount(JsonNode report) {
+        return report.get("amount").decimalValue();
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/revenue → 승인(단건/checkout)이 같은 트랜잭션에서 일별 x 결제수단 롤업에 반영")
+    void revenue_follows_approvals() throws Exception {
+        LocalDate today = LocalDate.now();
+        long memberId = json(post("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"매출\",\"email\":\"revenue@test.com\"}")).get("memberId").asLong();
+        JsonNode cardBefore = revenue(today, "CARD");
+        JsonNode allBefore = revenue(today, null);
+
+        checkout(memberId, "1000.25", "CARD", true);
+        checkout(memberId, "2000", "BANK_TRANSFER", true);
+        checkout(memberId, "9999", "CARD", false); // 승인 전은 매출 아님
+
+        JsonNode card = revenue(today, "CARD");
+        JsonNode all = revenue(today, null);
+        assertThat(card.get("approvedCount").asLong() - cardBefore.get("approvedCount").asLong()).isEqualTo(1);
+        assertThat(amount(card).subtract(amount(cardBefore))).isEqualByComparingTo("1000.25");
+        assertThat(all.get("approvedCount").asLong() - allBefore.get("approvedCount").asLong()).isEqualTo(2);
+        assertThat(amount(all).subtract(amount(allBefore))).isEqualByComparingTo("3000.25");
+        card.get("days").forEach(d -> assertThat(d.get("method").asText()).isEqualTo("CARD"));
+    }
+
+    @Test
+    @DisplayName("일괄 승인 → 그날 일부 결제수단 행이 없어도 결제수단마다 upsert 되어 빠짐없이 반영")
+    void batch_approve_counts_every_method() throws Exception {
+        LocalDate today = LocalDate.now();
+        long memberId = json(post("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"일괄매출\",\"email\":\"revenue+batch@test.com\"}")).get("memberId").asLong();
+        long card = checkout(memberId, "100", "CARD", false);
+        long bank = checkout(memberId, "200", "BANK_TRANSFER", false);
+        // CARD 행만 남기고 BANK_TRANSFER 행은 지운다 (그날 행이 일부만 있는 상태)
+        jdbc.update("delete from revenue_daily where revenue_date = ? and method = 'BANK_TRANSFER'", today);
+        JsonNode cardBefore = revenue(today, "CARD");
+
+        mockMvc.perform(post("/api/payments/approve-batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"paymentIds\": [%d, %d]}", card, bank)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(2));
+
+        JsonNode cardAfter = revenue(today, "CARD");
+        JsonNode bankAfter = revenue(today, "BANK_TRANSFER");
+        assertThat(cardAfter.get("approvedCount").asLong() - cardBefore.get("approvedCount").asLong()).isEqualTo(1);
+        assertThat(bankAfter.get("approvedCount").asLong()).isEqualTo(1);
+        assertThat(amount(bankAfter)).isEqualByComparingTo("200");
+    }
+
+    @Test
+    @DisplayName("POST /api/reports/revenue/backfill → 마감된 날의 어긋난 롤업을 payment 에서 다시 집계")
+    void backfill_repairs_rollups() throws Exception {
+        LocalDate day = LocalDate.now().minusDays(3);
+        long memberId = json(post("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"백필\",\"email\":\"revenue+backfill@test.com\"}")).get("memberId").asLong();
+        long paymentId = checkout(memberId, "700", "VIRTUAL_ACCOUNT", true);
+        // 마감된 날의 승인으로 옮긴다 → 그날 롤업에는 빠진 상태
+        jdbc.update("update payment set approved_at = ? where payment_id = ?", day.atTime(12, 0), paymentId);
+        // 기대값: payment 를 직접 집계 (롤업을 거치지 않고 저장된 승인까지 포함)
+        var expected = jdbc.queryForMap("""
+                select count(*) as cnt, coalesce(sum(amount), 0) as amt from payment
+                where approved_at >= ? and approved_at < ?
+                """, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        assertThat(((Number) expected.get("cnt")).longValue())
+                .isGreaterThan(revenue(day, null).get("approvedCount").asLong());
+
+        mockMvc.perform(post("/api/reports/revenue/backfill")
+                        .param("from", day.minusDays(1).toString()).param("to", day.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days").value(3));
+
+        JsonNode rebuilt = revenue(day, null);
+        assertThat(rebuilt.get("approvedCount").asLong()).isEqualTo(((Number) expected.get("cnt")).longValue());
+        assertThat(amount(rebuilt)).isEqualByComparingTo(
+                BigDecimal.valueOf(((Number) expected.get("amt")).longValue(), 2)); // 최소 단위 → 소수 2자리
+    }
+
+    @Test
+    @DisplayName("POST /api/reports/revenue/backfill - 오늘(마감 전) 포함 → 400")
+    void backfill_rejects_open_day() throws Exception {
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(post("/api/reports/revenue/backfill")
+                        .param("from", today.minusDays(1).toString()).param("to", today.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("to must be a closed day")));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/revenue - from > to → 400")
+    void revenue_invalid_range() throws Exception {
+        mockMvc.perform(get("/api/reports/revenue").param("from", "2026-01-02").param("to", "2026-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from must not be after to"));
+    }
+}
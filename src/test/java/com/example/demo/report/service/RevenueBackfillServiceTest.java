@@ -0,0 +1,77 @@
+package com.example.demo.report.service;
+
+import com.example.demo.report.api.dto.RevenueBackfillResponse;
+import com.example.demo.report.repository.RevenueDailyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueBackfillServiceTest {
+
+    @Mock
+    RevenueDailyRepository revenueDailyRepository;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    RevenueBackfillService revenueBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        // 작업자를 호출 스레드에서 바로 실행
+        revenueBackfillService = new RevenueBackfillService(revenueDailyRepository, txManager,
+                new TaskExecutorAdapter(Runnable::run));
+    }
+
+    @Test
+    @DisplayName("backfill: 기간을 하루 단위 파티션으로 나눠 하루마다 한 트랜잭션에서 초기화 후 재집계")
+    void backfill_partitions_by_day() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 10);
+        when(revenueDailyRepository.recompute(any(), any(), any())).thenReturn(3);
+
+        RevenueBackfillResponse res = revenueBackfillService.backfill(from, to);
+
+        assertThat(res.getDays()).isEqualTo(10);
+        assertThat(res.getRows()).isEqualTo(30);
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            verify(revenueDailyRepository).resetDay(d);
+            verify(revenueDailyRepository).recompute(d, d.atStartOfDay(), d.plusDays(1).atStartOfDay());
+        }
+        verify(txManager, times(10)).commit(any());
+    }
+
+    @Test
+    @DisplayName("backfill: 아직 마감되지 않은 오늘이 포함되면 IllegalArgumentException (라이브 승인과 겹치지 않게)")
+    void backfill_rejects_open_day() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> revenueBackfillService.backfill(today.minusDays(3), today))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("to must be a closed day");
+        verifyNoInteractions(revenueDailyRepository, txManager);
+    }
+
+    @Test
+    @DisplayName("backfill: from > to → IllegalArgumentException")
+    void backfill_invalid_range() {
+        LocalDate d = LocalDate.of(2026, 1, 1);
+
+        assertThatThrownBy(() -> revenueBackfillService.backfill(d, d.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from must not be after to");
+        verifyNoInteractions(revenueDailyRepository);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.report.service;
+
+import com.example.demo.common.money.Money;
+import com.example.demo.payment.domain.PaymentMethod;
+import com.example.demo.report.api.dto.RevenueDailyResponse;
+import com.example.demo.report.api.dto.RevenueReportResponse;
+import com.example.demo.report.repository.RevenueDailyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueServiceTest {
+
+    @Mock
+    RevenueDailyRepository revenueDailyRepository;
+
+    @InjectMocks
+    RevenueService revenueService;
+
+    @Test
+    @DisplayName("report: 롤업 행을 그대로 내려주고 합계를 더한다")
+    void report_sums_rollups() {
+        LocalDate d = LocalDate.of(2026, 10, 1);
+        when(revenueDailyRepository.findReport(d, d.plusDays(1), null)).thenReturn(List.of(
+                new RevenueDailyResponse(d, PaymentMethod.CARD, 2, 3000_00L),
+                new RevenueDailyResponse(d.plusDays(1), PaymentMethod.BANK_TRANSFER, 1, 500_50L)));
+
+        RevenueReportResponse res = revenueService.report(d, d.plusDays(1), null);
+
+        assertThat(res.getApprovedCount()).isEqualTo(3);
+        assertThat(res.getAmount()).isEqualTo(Money.valueOf("3500.50"));
+        assertThat(res.getDays()).extracting(RevenueDailyResponse::getMethod).containsExactly("CARD", "BANK_TRANSFER");
+    }
+
+    @Test
+    @DisplayName("report: from > to 또는 366일 이상 → IllegalArgumentException, 조회 없음")
+    void report_invalid_range() {
+        LocalDate d = LocalDate.of(2026, 10, 1);
+
+        assertThatThrownBy(() -> revenueService.report(d, d.minusDays(1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("from must not be after to");
+        assertThatThrownBy(() -> revenueService.report(d, d.plusDays(RevenueService.MAX_REPORT_DAYS), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("range too long");
+        verifyNoInteractions(revenueDailyRepository);
+    }
+
+    @Test
+    @DisplayName("addApproved: 호출 트랜잭션 안에서 임의 slot 행에 upsert 한 번 (행 유무와 무관)")
+    void addApproved_upserts_one_slot() {
+        LocalDateTime at = LocalDateTime.of(2026, 10, 1, 9, 0);
+        ArgumentCaptor<Integer> slot = ArgumentCaptor.forClass(Integer.class);
+
+        revenueService.addApproved(at, PaymentMethod.CARD, Money.of(1000));
+
+        verify(revenueDailyRepository).increment(eq(at.toLocalDate()), eq("CARD"), slot.capture(), eq(1L), eq(1000_00L));
+        assertThat(slot.getValue()).isBetween(0, RevenueService.SLOTS - 1);
+        verifyNoMoreInteractions(revenueDailyRepository);
+    }
+
+    @Test
+    @DisplayName("addApprovedPayments: 청크의 결제 id 를 결제수단별로 묶는 upsert 한 번")
+    void addApprovedPayments_upserts_once() {
+        LocalDateTime at = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+        revenueService.addApprovedPayments(List.of(1L, 2L), at);
+
+        verify(revenueDailyRepository).incrementForApproved(eq(List.of(1L, 2L)), eq(at.toLocalDate()), anyInt());
+        verifyNoMoreInteractions(revenueDailyRepository);
+    }
+}
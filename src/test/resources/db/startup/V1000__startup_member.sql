@@ -0,0 +1,3 @@
+-- 기동 시간 벤치마크(StartupBenchmark) 전용 시드: 자식 JVM 이 filesystem: 위치로 읽는다
+insert into member (member_id, name, email, version)
+values (1, '기동측정', 'startup@test.com', 0);